@@ -0,0 +1,46 @@
+package org.example.bench;
+
+import org.example.model.CreateItemResponse;
+import org.example.model.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Извлечение идентификатора из ответа {@code POST /api/1/item}: единственный разбор ответа на каждый
+ * запрос создания в режиме {@code load}.
+ * <p>
+ * {@code scan} — путь генератора нагрузки ({@link CreateItemResponse#scanItemId(byte[])}); {@code typed} —
+ * путь тестов, {@code seed} и {@code soak} через {@link Json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateItemResponseBenchmark {
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.createItem();
+        String scanned = CreateItemResponse.scanItemId(body);
+        if (scanned == null || !scanned.equals(Json.readCreateItemResponse(body).itemId())) {
+            throw new IllegalStateException("Parsers disagree on " + new String(body));
+        }
+    }
+
+    @Benchmark
+    public String scan() {
+        return CreateItemResponse.scanItemId(body);
+    }
+
+    @Benchmark
+    public String typed() {
+        return Json.readCreateItemResponse(body).itemId();
+    }
+}
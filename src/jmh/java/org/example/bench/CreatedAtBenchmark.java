@@ -0,0 +1,55 @@
+package org.example.bench;
+
+import org.example.validation.CreatedAt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Проверка формата createdAt регулярным выражением из {@code checkCreatedAtFormat} (TC-23).
+ * {@code compileEachCall} повторяет тест, компилирующий шаблон при каждом вызове.
+ * <p>
+ * {@code parse} — разбор {@link CreatedAt} из буфера символов, как его вызывает {@code ResponseValidator},
+ * {@code parseJavaTime} — тот же разбор через {@link DateTimeFormatter}. Выделения памяти на вызов
+ * показывает {@code -prof gc} ({@code gc.alloc.rate.norm}); у {@code parse} их быть не должно.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreatedAtBenchmark {
+    private static final String REGEX = "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d+ \\+\\d{4} \\+\\d{4}";
+    private static final Pattern PATTERN = Pattern.compile(REGEX);
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSS xx xx");
+
+    private final String createdAt = CreatedAt.EXAMPLE;
+    private final char[] buffer = createdAt.toCharArray();
+
+    @Benchmark
+    public boolean precompiled() {
+        return PATTERN.matcher(createdAt).matches();
+    }
+
+    @Benchmark
+    public boolean compileEachCall() {
+        return Pattern.compile(REGEX).matcher(createdAt).matches();
+    }
+
+    @Benchmark
+    public long parse() {
+        return CreatedAt.parse(buffer, 0, buffer.length);
+    }
+
+    @Benchmark
+    public long parseJavaTime() {
+        return OffsetDateTime.parse(createdAt, FORMAT).toInstant().toEpochMilli();
+    }
+}
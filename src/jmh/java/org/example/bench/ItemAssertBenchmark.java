@@ -0,0 +1,39 @@
+package org.example.bench;
+
+import org.example.assertion.JsonMatchers;
+import org.example.assertion.StreamingJsonAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка одного объявления из TC-01 на записанном ответе {@code GET /api/1/item/{id}}.
+ * Отдельно от {@link ResponseBenchmark}: от размера списка она не зависит и измеряется один раз.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemAssertBenchmark {
+    private static final StreamingJsonAssert ITEM_CHECKS = StreamingJsonAssert.builder()
+            .size("", 1)
+            .value("[0].id", JsonMatchers.equalTo("0cd4183f-a699-4486-83f8-b513dfde477a"))
+            .value("[0].sellerId", JsonMatchers.equalTo(Payloads.SELLER_ID))
+            .value("[0].name", JsonMatchers.equalTo("dsdsd"))
+            .value("[0].price", JsonMatchers.equalTo(1))
+            .value("[0].statistics.contacts", JsonMatchers.equalTo(3))
+            .value("[0].statistics.likes", JsonMatchers.equalTo(123))
+            .value("[0].statistics.viewCount", JsonMatchers.equalTo(12))
+            .build();
+
+    private final byte[] item = Payloads.item();
+
+    @Benchmark
+    public void assertItemStreaming() {
+        ITEM_CHECKS.verify(item);
+    }
+}
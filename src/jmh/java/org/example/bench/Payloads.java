@@ -0,0 +1,68 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Записанные ответы сервиса из {@code src/jmh/resources/payloads}.
+ * Бенчмарки работают только с ними и не ходят в сеть.
+ */
+final class Payloads {
+    static final long SELLER_ID = 1234345231L;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Payloads() {
+    }
+
+    /**
+     * Ответ {@code GET /api/1/item/{id}}.
+     */
+    static byte[] item() {
+        return resource("item.json");
+    }
+
+    /**
+     * Ответ {@code POST /api/1/item}.
+     */
+    static byte[] createItem() {
+        return resource("create-item.json");
+    }
+
+    /**
+     * Ответ {@code GET /api/1/{sellerID}/item} из {@code size} объявлений: записанные элементы
+     * повторяются по кругу с уникальными идентификаторами, как в списке реального продавца.
+     */
+    static byte[] sellerItems(int size) {
+        try {
+            JsonNode recorded = MAPPER.readTree(resource("seller-items.json"));
+            ArrayNode list = MAPPER.createArrayNode();
+            for (int i = 0; i < size; i++) {
+                ObjectNode item = recorded.get(i % recorded.size()).deepCopy();
+                item.put("id", new UUID(0x5e11e7L, i).toString());
+                list.add(item);
+            }
+            return MAPPER.writeValueAsBytes(list);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] resource(String name) {
+        try (InputStream in = Payloads.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing payload: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.CreateItemRequest;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сборка и сериализация тела {@code POST /api/1/item}.
+ * <p>
+ * {@code typed} — путь тестов и нагрузки через {@link Json}; {@code map} — прежний путь
+ * с {@code HashMap} и общим {@link ObjectMapper}, как RestAssured сериализует {@code body(Map)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestBodyBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private long sellerId = Payloads.SELLER_ID;
+
+    @Benchmark
+    public byte[] typed() {
+        return Json.write(new CreateItemRequest(sellerId++, "Test name", 120, new Statistics(2, 10, 50)));
+    }
+
+    @Benchmark
+    public byte[] map() throws Exception {
+        Map<String, Integer> statistics = new HashMap<>();
+        statistics.put("contacts", 2);
+        statistics.put("likes", 10);
+        statistics.put("viewCount", 50);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("sellerID", sellerId++);
+        body.put("name", "Test name");
+        body.put("price", 120);
+        body.put("statistics", statistics);
+        return MAPPER.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.bench;
+
+import io.restassured.path.json.JsonPath;
+import org.example.assertion.JsonMatchers;
+import org.example.assertion.StreamingJsonAssert;
+import org.example.model.Item;
+import org.example.model.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Разбор и проверка ответов {@code GET /api/1/item/{id}} ({@code items=1})
+ * и {@code GET /api/1/{sellerID}/item} разного размера.
+ * <p>
+ * Цепочка проверок повторяет TC-13, проверка одного объявления из TC-01 — в {@link ItemAssertBenchmark};
+ * {@code jsonPath*} — прежний путь через {@link JsonPath} RestAssured, который строит всё дерево ответа.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+    private static final StreamingJsonAssert SELLER_CHECKS = StreamingJsonAssert.builder()
+            .notEmpty("")
+            .value("[*].sellerId", JsonMatchers.equalTo(Payloads.SELLER_ID))
+            .value("[*].statistics.contacts", JsonMatchers.greaterThanOrEqualTo(0))
+            .value("[*].statistics.likes", JsonMatchers.greaterThanOrEqualTo(0))
+            .value("[*].statistics.viewCount", JsonMatchers.greaterThanOrEqualTo(0))
+            .build();
+
+    @Param({"1", "10", "100", "1000"})
+    public int items;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = items == 1 ? Payloads.item() : Payloads.sellerItems(items);
+    }
+
+    @Benchmark
+    public List<Item> parseTyped() {
+        return Json.readItems(body);
+    }
+
+    @Benchmark
+    public Object parseJsonPath() {
+        return new JsonPath(new String(body, StandardCharsets.UTF_8)).get("");
+    }
+
+    @Benchmark
+    public void assertSellerItemsStreaming() {
+        SELLER_CHECKS.verify(body);
+    }
+
+    @Benchmark
+    public boolean assertSellerItemsJsonPath() {
+        JsonPath json = new JsonPath(new String(body, StandardCharsets.UTF_8));
+        boolean ok = !json.getList("").isEmpty();
+        for (Object sellerId : json.getList("sellerId")) {
+            ok &= ((Number) sellerId).longValue() == Payloads.SELLER_ID;
+        }
+        for (String counter : new String[]{"contacts", "likes", "viewCount"}) {
+            for (Object value : json.getList("statistics." + counter)) {
+                ok &= ((Number) value).longValue() >= 0;
+            }
+        }
+        if (!ok) {
+            throw new AssertionError("Seller items check failed");
+        }
+        return ok;
+    }
+}
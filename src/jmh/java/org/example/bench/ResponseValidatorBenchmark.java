@@ -0,0 +1,47 @@
+package org.example.bench;
+
+import org.example.api.Endpoint;
+import org.example.validation.ResponseValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка успешного ответа на соответствие контракту, как в нагрузочном режиме с {@code --validate=true}:
+ * {@code GET /api/1/item/{id}} ({@code items=1}) и список из {@code items} объявлений.
+ * <p>
+ * С {@code -prof gc} видно, что {@code gc.alloc.rate.norm} почти не зависит от {@code items}: на ответ
+ * выделяются только парсер Jackson и его контекст, а не объекты объявлений.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseValidatorBenchmark {
+    private static final ResponseValidator ITEMS = ResponseValidator.forEndpoint(Endpoint.GET_ITEM);
+
+    @Param({"1", "100"})
+    public int items;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = items == 1 ? Payloads.item() : Payloads.sellerItems(items);
+        String failure = ITEMS.validate(200, body);
+        if (failure != null) {
+            throw new IllegalStateException("Recorded payload does not pass validation: " + failure);
+        }
+    }
+
+    @Benchmark
+    public String validate() {
+        return ITEMS.validate(200, body);
+    }
+}
@@ -1,13 +1,67 @@
 package org.example;
 
+import org.example.config.Config;
+import org.example.fuzz.Fuzzer;
+import org.example.load.LoadAgent;
+import org.example.load.LoadCoordinator;
+import org.example.load.LoadRunner;
+import org.example.seed.Seeder;
+import org.example.soak.SoakRunner;
+
+import java.util.Arrays;
+
 /**
- * Hello world!
- *
+ * Точка входа нагрузочных режимов: {@code java -cp ... org.example.App <режим> [--параметр=значение ...]}.
+ * <p>
+ * Режимы:
+ * <ul>
+ *     <li>{@code load} — открытая модель нагрузки с заданным RPS, см. {@link org.example.load.LoadOptions}</li>
+ *     <li>{@code coordinate} — та же нагрузка, поделённая между агентами, с общим отчётом,
+ *     см. {@link org.example.load.ClusterOptions}</li>
+ *     <li>{@code agent} — агент распределённого прогона, см. {@link org.example.load.LoadAgent}</li>
+ *     <li>{@code seed} — массовое создание объявлений и пул их идентификаторов, см. {@link org.example.seed.SeedOptions}</li>
+ *     <li>{@code soak} — многочасовой прогон сценариев с временным рядом метрик, см. {@link org.example.soak.SoakOptions}</li>
+ *     <li>{@code fuzz} — фаззинг создания объявления с сжатием и дедупликацией находок, см. {@link org.example.fuzz.FuzzOptions}</li>
+ * </ul>
+ * Настройки прогона ({@link Config}) проверяются до запуска режима; при ошибке печатается список
+ * некорректных значений и процесс завершается с кодом 2.
  */
-public class App 
-{
-    public static void main( String[] args )
-    {
-        System.out.println( "Hello World!" );
+public class App {
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        try {
+            System.out.println(Config.get());
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+        String[] modeArgs = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "load" -> LoadRunner.main(modeArgs);
+            case "coordinate" -> LoadCoordinator.main(modeArgs);
+            case "agent" -> LoadAgent.main(modeArgs);
+            case "seed" -> Seeder.main(modeArgs);
+            case "soak" -> SoakRunner.main(modeArgs);
+            case "fuzz" -> Fuzzer.main(modeArgs);
+            default -> {
+                System.err.println("Unknown mode: " + args[0]);
+                usage();
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.out.println("Usage: App <mode> [--option=value ...]");
+        System.out.println("Modes:");
+        System.out.println("  load        open-model load at a target RPS (--rps, --duration, --warmup, --mix, --target, --id-pool)");
+        System.out.println("  coordinate  load split between agents with a merged report (--agents, --spawn, --port, load options)");
+        System.out.println("  agent       one share of a distributed load run (--coordinator=host:port)");
+        System.out.println("  seed        bulk item creation into an id pool file (--items, --sellers, --concurrency, --output)");
+        System.out.println("  soak        closed-loop scenario run with an interval time series (--duration, --interval, --workers)");
+        System.out.println("  fuzz        generated create-item payloads with shrunk, de-duplicated findings (--count, --seed, --output)");
     }
 }
@@ -0,0 +1,47 @@
+package org.example.api;
+
+/**
+ * Эндпоинты сервиса объявлений, которые используют тесты и нагрузочные режимы.
+ * Шаблон пути совпадает с тем, что передаётся в RestAssured.
+ */
+public enum Endpoint {
+    CREATE_ITEM("POST", "/api/1/item"),
+    GET_ITEM("GET", "/api/1/item/{id}"),
+    GET_STATISTIC("GET", "/api/1/statistic/{id}"),
+    LIST_BY_SELLER("GET", "/api/1/{sellerID}/item");
+
+    private final String method;
+    private final String template;
+    private final boolean parameterized;
+    private final String prefix;
+    private final String suffix;
+
+    Endpoint(String method, String template) {
+        this.method = method;
+        this.template = template;
+        int open = template.indexOf('{');
+        this.parameterized = open >= 0;
+        if (!parameterized) {
+            this.prefix = template;
+            this.suffix = "";
+        } else {
+            this.prefix = template.substring(0, open);
+            this.suffix = template.substring(template.indexOf('}') + 1);
+        }
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String template() {
+        return template;
+    }
+
+    /**
+     * Подставляет значение параметра пути в шаблон.
+     */
+    public String path(Object param) {
+        return parameterized ? prefix + param + suffix : template;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.assertion;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.validation.CreatedAt;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Проверки скалярных значений для {@link StreamingJsonAssert}.
+ * Проверка читает значение прямо из {@link JsonParser}, стоящего на токене значения.
+ */
+public final class JsonMatchers {
+
+    /**
+     * Проверка значения в текущей позиции парсера.
+     */
+    public interface ValueMatcher {
+        boolean matches(JsonParser parser) throws IOException;
+
+        String describe();
+    }
+
+    private JsonMatchers() {
+    }
+
+    public static ValueMatcher equalTo(String expected) {
+        Objects.requireNonNull(expected, "use nullValue() to expect null");
+        return matcher("\"" + expected + "\"", p -> p.currentToken() == JsonToken.VALUE_STRING
+                && expected.equals(p.getText()));
+    }
+
+    public static ValueMatcher equalTo(long expected) {
+        return matcher(Long.toString(expected), p -> p.currentToken() == JsonToken.VALUE_NUMBER_INT
+                && p.getLongValue() == expected);
+    }
+
+    public static ValueMatcher equalTo(boolean expected) {
+        return matcher(Boolean.toString(expected), p -> p.currentToken() == (expected ? JsonToken.VALUE_TRUE
+                : JsonToken.VALUE_FALSE));
+    }
+
+    public static ValueMatcher nullValue() {
+        return matcher("null", p -> p.currentToken() == JsonToken.VALUE_NULL);
+    }
+
+    public static ValueMatcher startsWith(String prefix) {
+        return matcher("a string starting with \"" + prefix + "\"", p -> p.currentToken() == JsonToken.VALUE_STRING
+                && p.getText().startsWith(prefix));
+    }
+
+    public static ValueMatcher matchesPattern(Pattern pattern) {
+        return matcher("a string matching " + pattern, p -> p.currentToken() == JsonToken.VALUE_STRING
+                && pattern.matcher(p.getText()).matches());
+    }
+
+    /**
+     * {@code createdAt} сервиса, например {@code 2025-02-12 11:28:35.164375 +0300 +0300}, см. {@link CreatedAt}.
+     */
+    public static ValueMatcher createdAt() {
+        return matcher("a timestamp like \"" + CreatedAt.EXAMPLE + "\"",
+                p -> p.currentToken() == JsonToken.VALUE_STRING
+                        && CreatedAt.isValid(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+    }
+
+    public static ValueMatcher greaterThanOrEqualTo(long bound) {
+        return matcher("a number >= " + bound, p -> p.currentToken() == JsonToken.VALUE_NUMBER_INT
+                && p.getLongValue() >= bound);
+    }
+
+    private static ValueMatcher matcher(String description, Check check) {
+        return new ValueMatcher() {
+            @Override
+            public boolean matches(JsonParser parser) throws IOException {
+                return check.test(parser);
+            }
+
+            @Override
+            public String describe() {
+                return description;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean test(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,352 @@
+package org.example.assertion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Проверки JSON-ответа за один проход потокового парсера Jackson, без построения дерева.
+ * <p>
+ * Пути записываются в стиле JsonPath RestAssured: {@code ""} — корень, {@code "status"},
+ * {@code "result.message"}, {@code "[0].statistics.likes"}, {@code "[*].sellerId"} — каждый элемент массива.
+ * Поддеревья, к которым не относится ни одна проверка, пропускаются целиком, поэтому проверка
+ * {@code [0]} в ответе из миллиона элементов не разбирает остальные элементы.
+ * <p>
+ * Выигрыш по памяти зависит от источника тела. {@link #verify(byte[])} не строит дерево и объекты,
+ * но само тело уже целиком в памяти — так у всех ответов RestAssured, которые буферизует общий клиент тестов.
+ * Память не растёт с размером ответа только при {@link #verify(InputStream)} на потоке из сети.
+ * <pre>
+ * StreamingJsonAssert.builder()
+ *         .size("", 1)
+ *         .value("[0].id", JsonMatchers.equalTo(itemId))
+ *         .value("[*].price", JsonMatchers.greaterThanOrEqualTo(0))
+ *         .build()
+ *         .verify(response.asByteArray());
+ * </pre>
+ * Собранный объект неизменяем и потокобезопасен — его можно построить один раз и переиспользовать.
+ */
+public final class StreamingJsonAssert {
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int INITIAL_DEPTH = 16;
+
+    private final Expectation[] expectations;
+
+    private StreamingJsonAssert(List<Expectation> expectations) {
+        this.expectations = expectations.toArray(new Expectation[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Проверяет тело ответа и бросает {@link AssertionError} со списком всех несовпадений.
+     */
+    public void verify(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            throwIfFailed(check(parser));
+        } catch (IOException e) {
+            throw new AssertionError("Malformed JSON: " + e.getMessage(), e);
+        }
+    }
+
+    public void verify(InputStream body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            throwIfFailed(check(parser));
+        } catch (IOException e) {
+            throw new AssertionError("Malformed JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Список несовпадений; пустой, если все проверки прошли.
+     */
+    public List<String> check(byte[] body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            return check(parser);
+        }
+    }
+
+    private static void throwIfFailed(List<String> failures) {
+        if (!failures.isEmpty()) {
+            throw new AssertionError("JSON assertions failed:\n - " + String.join("\n - ", failures));
+        }
+    }
+
+    private List<String> check(JsonParser parser) throws IOException {
+        Walk walk = new Walk();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case FIELD_NAME -> {
+                    walk.names[walk.depth - 1] = parser.currentName();
+                    walk.counts[walk.depth - 1]++;
+                }
+                case START_OBJECT, START_ARRAY -> {
+                    walk.countArrayElement();
+                    onContainerStart(parser, walk, token);
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    int count = walk.counts[walk.depth - 1];
+                    walk.depth--;
+                    onContainerEnd(walk, count);
+                    walk.advanceArrayIndex();
+                }
+                default -> {
+                    walk.countArrayElement();
+                    onScalar(parser, walk);
+                    walk.advanceArrayIndex();
+                }
+            }
+        }
+        for (int i = 0; i < expectations.length; i++) {
+            Expectation e = expectations[i];
+            if (walk.matched[i] == 0 && !e.wildcard) {
+                walk.fail(e.path + ": no value at path");
+            }
+        }
+        return walk.failures == null ? List.of() : walk.failures;
+    }
+
+    private void onContainerStart(JsonParser parser, Walk walk, JsonToken token) throws IOException {
+        boolean relevant = false;
+        for (int i = 0; i < expectations.length; i++) {
+            Expectation e = expectations[i];
+            if (e.segments.length == walk.depth && e.matchesLocation(walk)) {
+                walk.matched[i]++;
+                relevant = true;
+                if (e.kind == Kind.VALUE) {
+                    walk.fail(e.path + ": expected " + e.matcher.describe() + " but was "
+                            + (token == JsonToken.START_OBJECT ? "an object" : "an array"));
+                } else if (e.kind == Kind.EMPTY_OBJECT && token != JsonToken.START_OBJECT) {
+                    walk.fail(e.path + ": expected an empty object but was an array");
+                }
+            } else if (e.segments.length > walk.depth && e.matchesPrefix(walk)) {
+                relevant = true;
+            }
+        }
+        if (relevant) {
+            walk.push(token == JsonToken.START_ARRAY);
+        } else {
+            parser.skipChildren();
+            walk.advanceArrayIndex();
+        }
+    }
+
+    private void onContainerEnd(Walk walk, int count) {
+        for (Expectation e : expectations) {
+            if (e.kind != Kind.VALUE && e.segments.length == walk.depth && e.matchesLocation(walk)) {
+                if (!e.sizeCheck.test(count)) {
+                    walk.fail(e.path + ": expected " + e.sizeDescription + " but size was " + count);
+                }
+            }
+        }
+    }
+
+    private void onScalar(JsonParser parser, Walk walk) throws IOException {
+        for (int i = 0; i < expectations.length; i++) {
+            Expectation e = expectations[i];
+            if (e.segments.length != walk.depth || !e.matchesLocation(walk)) {
+                continue;
+            }
+            walk.matched[i]++;
+            if (e.kind != Kind.VALUE) {
+                walk.fail(e.path + ": expected " + e.sizeDescription + " but was " + parser.getText());
+            } else if (!e.matcher.matches(parser)) {
+                walk.fail(walk.location() + ": expected " + e.matcher.describe() + " but was "
+                        + (parser.currentToken() == JsonToken.VALUE_STRING ? "\"" + parser.getText() + "\""
+                        : parser.getText()));
+            }
+        }
+    }
+
+    /**
+     * Состояние одного прохода: стек контейнеров от корня до текущего значения.
+     */
+    private final class Walk {
+        boolean[] isArray = new boolean[INITIAL_DEPTH];
+        String[] names = new String[INITIAL_DEPTH];
+        int[] indexes = new int[INITIAL_DEPTH];
+        int[] counts = new int[INITIAL_DEPTH];
+        int depth;
+        final int[] matched = new int[expectations.length];
+        List<String> failures;
+
+        void push(boolean array) {
+            if (depth == isArray.length) {
+                int size = depth * 2;
+                isArray = Arrays.copyOf(isArray, size);
+                names = Arrays.copyOf(names, size);
+                indexes = Arrays.copyOf(indexes, size);
+                counts = Arrays.copyOf(counts, size);
+            }
+            isArray[depth] = array;
+            names[depth] = null;
+            indexes[depth] = 0;
+            counts[depth] = 0;
+            depth++;
+        }
+
+        void countArrayElement() {
+            if (depth > 0 && isArray[depth - 1]) {
+                counts[depth - 1]++;
+            }
+        }
+
+        void advanceArrayIndex() {
+            if (depth > 0 && isArray[depth - 1]) {
+                indexes[depth - 1]++;
+            }
+        }
+
+        void fail(String message) {
+            if (failures == null) {
+                failures = new ArrayList<>();
+            }
+            failures.add(message);
+        }
+
+        String location() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                if (isArray[i]) {
+                    sb.append('[').append(indexes[i]).append(']');
+                } else {
+                    if (sb.length() > 0) {
+                        sb.append('.');
+                    }
+                    sb.append(names[i]);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private enum Kind { VALUE, SIZE, EMPTY_OBJECT }
+
+    private static final class Expectation {
+        static final int WILDCARD = -1;
+
+        final String path;
+        final Kind kind;
+        /** Для полей — имя, для индексов — {@code null}. */
+        final String[] segments;
+        final int[] indexes;
+        final boolean wildcard;
+        final JsonMatchers.ValueMatcher matcher;
+        final IntPredicate sizeCheck;
+        final String sizeDescription;
+
+        Expectation(String path, Kind kind, JsonMatchers.ValueMatcher matcher,
+                    IntPredicate sizeCheck, String sizeDescription) {
+            this.path = path;
+            this.kind = kind;
+            this.matcher = matcher;
+            this.sizeCheck = sizeCheck;
+            this.sizeDescription = sizeDescription;
+
+            List<String> names = new ArrayList<>();
+            List<Integer> idx = new ArrayList<>();
+            parsePath(path, names, idx);
+            this.segments = names.toArray(new String[0]);
+            this.indexes = idx.stream().mapToInt(Integer::intValue).toArray();
+            this.wildcard = idx.contains(WILDCARD);
+        }
+
+        boolean matchesLocation(Walk walk) {
+            return matchesFirst(walk, segments.length);
+        }
+
+        boolean matchesPrefix(Walk walk) {
+            return matchesFirst(walk, walk.depth);
+        }
+
+        private boolean matchesFirst(Walk walk, int length) {
+            for (int i = 0; i < length; i++) {
+                String name = segments[i];
+                if (name != null) {
+                    if (walk.isArray[i] || !name.equals(walk.names[i])) {
+                        return false;
+                    }
+                } else if (!walk.isArray[i] || (indexes[i] != WILDCARD && indexes[i] != walk.indexes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static void parsePath(String path, List<String> names, List<Integer> indexes) {
+            int i = 0;
+            while (i < path.length()) {
+                char c = path.charAt(i);
+                if (c == '.') {
+                    i++;
+                } else if (c == '[') {
+                    int close = path.indexOf(']', i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed '[' in path: " + path);
+                    }
+                    String index = path.substring(i + 1, close);
+                    names.add(null);
+                    indexes.add(index.equals("*") ? WILDCARD : Integer.parseInt(index));
+                    i = close + 1;
+                } else {
+                    int end = i;
+                    while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+                    names.add(path.substring(i, end));
+                    indexes.add(0);
+                    i = end;
+                }
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final List<Expectation> expectations = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Скалярное значение по пути. Для путей с {@code [*]} проверяется каждый элемент.
+         */
+        public Builder value(String path, JsonMatchers.ValueMatcher matcher) {
+            expectations.add(new Expectation(path, Kind.VALUE, matcher, null, null));
+            return this;
+        }
+
+        /**
+         * Число элементов массива или полей объекта.
+         */
+        public Builder size(String path, int expected) {
+            return size(path, size -> size == expected, "size " + expected);
+        }
+
+        public Builder size(String path, IntPredicate check, String description) {
+            expectations.add(new Expectation(path, Kind.SIZE, null, check, description));
+            return this;
+        }
+
+        public Builder notEmpty(String path) {
+            return size(path, size -> size > 0, "a non-empty container");
+        }
+
+        public Builder emptyObject(String path) {
+            expectations.add(new Expectation(path, Kind.EMPTY_OBJECT, null, size -> size == 0, "an empty object"));
+            return this;
+        }
+
+        public StreamingJsonAssert build() {
+            return new StreamingJsonAssert(expectations);
+        }
+    }
+}
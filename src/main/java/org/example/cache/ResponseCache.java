@@ -0,0 +1,127 @@
+package org.example.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Кеш ответов идемпотентных GET-запросов с вытеснением по LRU и сроком жизни записи.
+ * <p>
+ * Размер ограничен и числом записей, и суммарным объёмом тел; при превышении любого предела
+ * вытесняются давно не использованные записи. Просроченная запись удаляется при обращении к ней.
+ * Кеш потокобезопасен: все операции берут одну блокировку, так как каждая из них — несколько
+ * операций над {@link LinkedHashMap} в порядке доступа.
+ */
+public class ResponseCache {
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Slot> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Закешированный ответ.
+     */
+    public record Entry(int status, String contentType, byte[] body) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Slot(Entry entry, long size, long expiresAt) {
+    }
+
+    public ResponseCache(int maxEntries, long maxBytes, Duration ttl) {
+        this(maxEntries, maxBytes, ttl, System::nanoTime);
+    }
+
+    ResponseCache(int maxEntries, long maxBytes, Duration ttl, LongSupplier clock) {
+        if (maxEntries <= 0 || maxBytes <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache bounds and TTL must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Ответ по ключу или {@code null}, если его нет или срок жизни истёк.
+     */
+    public Entry get(String key) {
+        synchronized (entries) {
+            Slot slot = entries.get(key);
+            if (slot != null && clock.getAsLong() - slot.expiresAt() >= 0) {
+                remove(key);
+                slot = null;
+            }
+            if (slot == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return slot.entry();
+        }
+    }
+
+    /**
+     * Кладёт ответ в кеш. Ответ больше всего кеша не кешируется.
+     */
+    public void put(String key, Entry entry) {
+        long size = key.length() + (entry.body() == null ? 0 : entry.body().length);
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            remove(key);
+            entries.put(key, new Slot(entry, size, clock.getAsLong() + ttlNanos));
+            bytes += size;
+            Iterator<Map.Entry<String, Slot>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes);
+        }
+    }
+
+    private void remove(String key) {
+        Slot removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.client;
+
+import org.example.config.Config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Общая настройка {@link HttpClient} для нагрузочных режимов.
+ * <p>
+ * Для HTTPS клиент договаривается об HTTP/2 через ALPN и мультиплексирует запросы
+ * в нескольких соединениях; для обычного HTTP используется HTTP/1.1 с keep-alive,
+ * чтобы не тратить первый запрос каждого соединения на h2c-upgrade.
+ * Таймаут соединения — {@link Config#connectTimeout()}; число простаивающих соединений в пуле
+ * ограничивается, только если {@code http.pool.size} задан явно.
+ */
+public final class HttpClients {
+    public static final Duration CONNECT_TIMEOUT = Config.get().connectTimeout();
+
+    static {
+        Config config = Config.get();
+        if (!"default".equals(config.source(Config.POOL_SIZE))
+                && System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(config.poolSize()));
+        }
+    }
+
+    private HttpClients() {
+    }
+
+    public static HttpClient create(String baseUrl) {
+        return HttpClient.newBuilder()
+                .version(baseUrl.startsWith("https") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.client;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Множество идентификаторов объявлений для поиска дубликатов в больших ответах.
+ * <p>
+ * Идентификаторы сервиса — UUID, поэтому они хранятся как пары {@code long} в одном массиве с открытой адресацией;
+ * пустую ячейку обозначает пара нулей, а нулевой UUID учитывается отдельным флагом. Таблица заполняется
+ * до 3/4 и затем удваивается, так что идентификатор занимает от 21 до 43 байт вместо сотни с лишним байт
+ * на {@code String} в {@link HashSet}. Идентификаторы другого вида хранятся строками.
+ */
+final class IdSet {
+    private static final int UUID_LENGTH = 36;
+
+    private long[] table = new long[2 * 64];
+    private int size;
+    private boolean containsNil;
+    private final Set<String> other = new HashSet<>();
+
+    /**
+     * @return {@code false}, если идентификатор уже встречался
+     */
+    boolean add(String id) {
+        UUID uuid = id.length() == UUID_LENGTH ? parse(id) : null;
+        if (uuid == null) {
+            return other.add(id);
+        }
+        long high = uuid.getMostSignificantBits();
+        long low = uuid.getLeastSignificantBits();
+        if (high == 0 && low == 0) {
+            if (containsNil) {
+                return false;
+            }
+            containsNil = true;
+            return true;
+        }
+        if (4 * (size + 1) > 3 * (table.length / 2)) {
+            grow();
+        }
+        if (!insert(table, high, low)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size + (containsNil ? 1 : 0) + other.size();
+    }
+
+    private static boolean insert(long[] table, long high, long low) {
+        int mask = table.length / 2 - 1;
+        int slot = hash(high, low) & mask;
+        while (table[2 * slot] != 0 || table[2 * slot + 1] != 0) {
+            if (table[2 * slot] == high && table[2 * slot + 1] == low) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[2 * slot] = high;
+        table[2 * slot + 1] = low;
+        return true;
+    }
+
+    private void grow() {
+        long[] grown = new long[table.length * 2];
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != 0 || table[i + 1] != 0) {
+                insert(grown, table[i], table[i + 1]);
+            }
+        }
+        table = grown;
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Только канонический вид в нижнем регистре: {@link UUID#fromString} принимает и сокращённые группы,
+     * и верхний регистр, а разные строки не должны считаться одним идентификатором.
+     */
+    private static UUID parse(String id) {
+        if (id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.client;
+
+import org.example.model.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+
+/**
+ * Агрегаты по списку объявлений, собираемые за один проход: число объявлений, сумма {@code viewCount},
+ * минимальная и максимальная цена, повторяющиеся идентификаторы.
+ * <p>
+ * Сами объявления не хранятся; память растёт только на {@link IdSet} — от 21 до 43 байт на объявление.
+ * Из повторов запоминаются первые {@value #DUPLICATE_SAMPLES} для сообщения об ошибке.
+ */
+public final class ItemSummary implements Consumer<Item> {
+    static final int DUPLICATE_SAMPLES = 10;
+
+    private final IdSet ids = new IdSet();
+    private final List<String> duplicateIds = new ArrayList<>();
+    private long count;
+    private long duplicates;
+    private long viewCount;
+    private long minPrice = Long.MAX_VALUE;
+    private long maxPrice = Long.MIN_VALUE;
+
+    @Override
+    public void accept(Item item) {
+        count++;
+        if (item.statistics() != null) {
+            viewCount += item.statistics().viewCount();
+        }
+        minPrice = Math.min(minPrice, item.price());
+        maxPrice = Math.max(maxPrice, item.price());
+        if (item.id() != null && !ids.add(item.id())) {
+            duplicates++;
+            if (duplicateIds.size() < DUPLICATE_SAMPLES) {
+                duplicateIds.add(item.id());
+            }
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long viewCountSum() {
+        return viewCount;
+    }
+
+    public OptionalLong minPrice() {
+        return count == 0 ? OptionalLong.empty() : OptionalLong.of(minPrice);
+    }
+
+    public OptionalLong maxPrice() {
+        return count == 0 ? OptionalLong.empty() : OptionalLong.of(maxPrice);
+    }
+
+    /**
+     * Сколько объявлений повторили уже встречавшийся идентификатор.
+     */
+    public long duplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Первые повторившиеся идентификаторы, не больше {@value #DUPLICATE_SAMPLES}.
+     */
+    public List<String> duplicateIds() {
+        return Collections.unmodifiableList(duplicateIds);
+    }
+
+    @Override
+    public String toString() {
+        return "items=" + count + ", viewCount=" + viewCount
+                + ", price=" + (count == 0 ? "-" : minPrice + ".." + maxPrice)
+                + ", duplicates=" + duplicates + (duplicates == 0 ? "" : " " + duplicateIds);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.api.Endpoint;
+import org.example.model.Item;
+import org.example.model.Json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Потоковое чтение ответа {@code GET /api/1/{sellerID}/item}: объявления разбираются по одному,
+ * по мере того как байты приходят из соединения, и весь массив в памяти не собирается.
+ * <p>
+ * Чтение управляется потребителем: {@link HttpResponse.BodyHandlers#ofInputStream()} запрашивает у соединения
+ * следующие буферы, только когда прочитаны предыдущие, поэтому медленная обработка элементов через окно TCP
+ * притормаживает сервис, а не копит ответ в куче. Каждое прочитанное объявление попадает в
+ * {@link #summary()} до того, как его получит потребитель потока.
+ * <pre>
+ *   try (SellerItems items = SellerItems.fetch(client, baseUrl, sellerId, timeout)) {
+ *       items.items().forEach(item -> ...);
+ *       items.summary().duplicates();
+ *   }
+ * </pre>
+ */
+public final class SellerItems implements Closeable {
+    private final int status;
+    private final InputStream body;
+    private final ItemSummary summary = new ItemSummary();
+    private Runnable onClose = () -> { };
+    private boolean streamed;
+    private boolean complete;
+    private boolean closed;
+
+    private SellerItems(int status, InputStream body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Отправляет запрос и возвращается, как только получены заголовки; тело читается из {@link #items()}.
+     */
+    public static SellerItems fetch(HttpClient client, String baseUrl, Object sellerId, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + Endpoint.LIST_BY_SELLER.path(sellerId)))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        return new SellerItems(response.statusCode(), response.body());
+    }
+
+    /**
+     * Ответ, тело которого уже получено другим клиентом.
+     */
+    public static SellerItems of(int status, InputStream body) {
+        return new SellerItems(status, body);
+    }
+
+    public int status() {
+        return status;
+    }
+
+    /**
+     * Добавляет действие, выполняемое при {@link #close()}, например запись задержки запроса.
+     */
+    public SellerItems onClose(Runnable action) {
+        Runnable previous = onClose;
+        onClose = () -> {
+            previous.run();
+            action.run();
+        };
+        return this;
+    }
+
+    /**
+     * Объявления ответа в порядке массива. Поток можно получить один раз; его закрытие закрывает и ответ.
+     * Ошибка разбора или обрыв соединения — {@link UncheckedIOException} из терминальной операции.
+     */
+    public Stream<Item> items() {
+        if (streamed) {
+            throw new IllegalStateException("Seller items can be streamed only once");
+        }
+        streamed = true;
+        JsonParser parser;
+        try {
+            parser = Json.parser(body);
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_ARRAY) {
+                throw new IOException("Expected JSON array of items, got " + first);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read seller items (status " + status + ")", e);
+        }
+        Spliterator<Item> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Item> action) {
+                if (complete) {
+                    return false;
+                }
+                Item item;
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        complete = true;
+                        return false;
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new IOException("Expected item object at element " + summary.count() + ", got " + token);
+                    }
+                    item = Json.readItem(parser);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read seller item " + summary.count(), e);
+                }
+                summary.accept(item);
+                action.accept(item);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Агрегаты по уже прочитанным объявлениям; по всему ответу — после того, как {@link #complete()}.
+     */
+    public ItemSummary summary() {
+        return summary;
+    }
+
+    /**
+     * Массив прочитан до конца: короткозамыкающие операции потока ({@code findFirst}, {@code limit})
+     * оставляют остаток ответа непрочитанным.
+     */
+    public boolean complete() {
+        return complete;
+    }
+
+    /**
+     * Закрывает тело ответа; непрочитанный остаток не дочитывается, соединение при этом не возвращается в пул.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            body.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            onClose.run();
+        }
+    }
+}
@@ -1,5 +1,555 @@
 package org.example.config;
 
-public class Config {
-    public static final String BASE_URL = "https://qa-internship.avito.com";
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Настройки прогона: адрес сервиса, таймауты, пул соединений, параллельность тестов и параметры нагрузки.
+ * <p>
+ * Значение каждого ключа берётся из первого источника, где оно задано:
+ * <ol>
+ *     <li>системное свойство ({@code -Dapi.base-url=...});</li>
+ *     <li>переменная окружения: ключ в верхнем регистре, {@code .} и {@code -} заменены на {@code _}
+ *     ({@code API_BASE_URL});</li>
+ *     <li>файл {@code .properties} из {@code -Dapi.config} или {@code API_CONFIG};</li>
+ *     <li>профиль {@code -Dapi.profile} ({@code smoke}, {@code regression}, {@code load}) —
+ *     ресурс {@code config/<профиль>.properties};</li>
+ *     <li>значение по умолчанию из {@link #DEFAULTS}.</li>
+ * </ol>
+ * Настройки читаются и проверяются один раз, при первом обращении к {@link #get()}: все ошибки
+ * собираются в одно исключение с указанием источника значения, и прогон не стартует
+ * с наполовину применённой конфигурацией. Поэтому один и тот же образ Docker запускает любой профиль
+ * только переменными окружения, без пересборки.
+ */
+public final class Config {
+    public static final String TARGET = "api.target";
+    public static final String BASE_URL = "api.base-url";
+    public static final String CONNECT_TIMEOUT = "api.connect-timeout";
+    public static final String REQUEST_TIMEOUT = "api.request-timeout";
+    public static final String POOL_SIZE = "http.pool.size";
+    public static final String PARALLELISM = "api.parallelism";
+    public static final String RPS = "api.rps";
+    public static final String WARMUP = "api.warmup";
+    public static final String DURATION = "api.duration";
+    public static final String TRAFFIC = "api.traffic";
+    public static final String TRAFFIC_FILE = "api.traffic.file";
+    public static final String CACHE = "api.cache";
+    public static final String CACHE_MAX_ENTRIES = "api.cache.max-entries";
+    public static final String CACHE_MAX_BYTES = "api.cache.max-bytes";
+    public static final String CACHE_TTL = "api.cache.ttl";
+    public static final String LATENCY_REPORT = "latency.report";
+    public static final String METRICS_PORT = "metrics.port";
+    public static final String METRICS_HOST = "metrics.host";
+    public static final String JOURNAL = "api.journal";
+    public static final String JOURNAL_FILE = "api.journal.file";
+    public static final String JOURNAL_BODY_SAMPLE = "api.journal.body-sample";
+    public static final String JOURNAL_BUFFER = "api.journal.buffer";
+    public static final String JOURNAL_ROTATE_SIZE = "api.journal.rotate-size";
+
+    /** Профиль: ресурс {@code config/<профиль>.properties}. */
+    public static final String PROFILE = "api.profile";
+    /** Файл настроек; перекрывает профиль. */
+    public static final String FILE = "api.config";
+
+    static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put(TARGET, "stub");
+        DEFAULTS.put(BASE_URL, "https://qa-internship.avito.com");
+        DEFAULTS.put(CONNECT_TIMEOUT, "10s");
+        DEFAULTS.put(REQUEST_TIMEOUT, "30s");
+        DEFAULTS.put(POOL_SIZE, "64");
+        // Тесты ждут сеть, поэтому потоков больше, чем ядер
+        DEFAULTS.put(PARALLELISM, String.valueOf(2 * Runtime.getRuntime().availableProcessors()));
+        DEFAULTS.put(RPS, "100");
+        DEFAULTS.put(WARMUP, "5s");
+        DEFAULTS.put(DURATION, "30s");
+        DEFAULTS.put(TRAFFIC, "off");
+        DEFAULTS.put(TRAFFIC_FILE, "target/traffic.log");
+        DEFAULTS.put(CACHE, "on");
+        DEFAULTS.put(CACHE_MAX_ENTRIES, "10000");
+        DEFAULTS.put(CACHE_MAX_BYTES, String.valueOf(64L << 20));
+        DEFAULTS.put(CACHE_TTL, "5m");
+        DEFAULTS.put(LATENCY_REPORT, "target/latency-report.json");
+        DEFAULTS.put(METRICS_PORT, "off");
+        DEFAULTS.put(METRICS_HOST, "127.0.0.1");
+        DEFAULTS.put(JOURNAL, "off");
+        DEFAULTS.put(JOURNAL_FILE, "target/journal.jsonl.gz");
+        DEFAULTS.put(JOURNAL_BODY_SAMPLE, "0");
+        DEFAULTS.put(JOURNAL_BUFFER, "65536");
+        DEFAULTS.put(JOURNAL_ROTATE_SIZE, String.valueOf(64L << 20));
+    }
+
+    private static volatile Config instance;
+
+    private final Map<String, String> values;
+    private final Map<String, String> sources;
+
+    private final String target;
+    private final String baseUrl;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final int poolSize;
+    private final int parallelism;
+    private final double rps;
+    private final Duration warmup;
+    private final Duration duration;
+    private final String traffic;
+    private final Path trafficFile;
+    private final boolean cacheEnabled;
+    private final int cacheMaxEntries;
+    private final long cacheMaxBytes;
+    private final Duration cacheTtl;
+    private final Path latencyReport;
+    private final int metricsPort;
+    private final String metricsHost;
+    private final boolean journalEnabled;
+    private final Path journalFile;
+    private final double journalBodySample;
+    private final int journalBuffer;
+    private final long journalRotateSize;
+
+    /**
+     * Настройки текущей JVM. Первый вызов читает и проверяет все источники.
+     *
+     * @throws IllegalStateException если хотя бы одно значение некорректно
+     */
+    public static Config get() {
+        Config config = instance;
+        if (config == null) {
+            synchronized (Config.class) {
+                if (instance == null) {
+                    instance = load(System.getenv(), System.getProperties());
+                }
+                config = instance;
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Настройки из заданных переменных окружения и системных свойств.
+     */
+    static Config load(Map<String, String> env, Properties system) {
+        Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+        Map<String, String> sources = new LinkedHashMap<>();
+        DEFAULTS.keySet().forEach(key -> sources.put(key, "default"));
+        List<String> errors = new ArrayList<>();
+
+        String file = lookup(FILE, env, system);
+        Properties fileValues = new Properties();
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+                fileValues.load(reader);
+            } catch (IOException e) {
+                errors.add(FILE + ": cannot read " + file + " (" + e.getMessage() + ")");
+            }
+        }
+        String profile = lookup(PROFILE, env, system);
+        if (profile == null) {
+            profile = fileValues.getProperty(PROFILE);
+        }
+        if (profile != null) {
+            Properties profileValues = new Properties();
+            try (InputStream in = Config.class.getResourceAsStream("/config/" + profile + ".properties")) {
+                if (in == null) {
+                    errors.add(PROFILE + ": unknown profile '" + profile + "'");
+                } else {
+                    profileValues.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                errors.add(PROFILE + ": cannot read profile '" + profile + "' (" + e.getMessage() + ")");
+            }
+            merge(profileValues, "profile " + profile, values, sources, errors);
+        }
+        fileValues.remove(PROFILE);
+        merge(fileValues, "file " + file, values, sources, errors);
+
+        for (String key : DEFAULTS.keySet()) {
+            String fromEnv = env.get(envName(key));
+            if (fromEnv != null) {
+                values.put(key, fromEnv.trim());
+                sources.put(key, "env " + envName(key));
+            }
+            String fromSystem = system.getProperty(key);
+            if (fromSystem != null) {
+                values.put(key, fromSystem.trim());
+                sources.put(key, "-D" + key);
+            }
+        }
+        return new Config(values, sources, errors);
+    }
+
+    private Config(Map<String, String> values, Map<String, String> sources, List<String> errors) {
+        this.values = values;
+        this.sources = sources;
+        Parser parser = new Parser(values, sources, errors);
+        target = parser.oneOf(TARGET, "stub", "remote");
+        baseUrl = parser.parse(BASE_URL, Config::parseBaseUrl);
+        connectTimeout = parser.positive(CONNECT_TIMEOUT);
+        requestTimeout = parser.positive(REQUEST_TIMEOUT);
+        poolSize = parser.positiveInt(POOL_SIZE);
+        parallelism = parser.positiveInt(PARALLELISM);
+        Double parsedRps = parser.parse(RPS, value -> {
+            double parsed = Double.parseDouble(value);
+            if (!(parsed > 0) || Double.isInfinite(parsed)) {
+                throw new IllegalArgumentException("must be positive");
+            }
+            return parsed;
+        });
+        rps = parsedRps == null ? 0 : parsedRps;
+        warmup = parser.parse(WARMUP, Config::parseDuration);
+        duration = parser.positive(DURATION);
+        traffic = parser.oneOf(TRAFFIC, "off", "record", "replay");
+        trafficFile = parser.parse(TRAFFIC_FILE, Path::of);
+        cacheEnabled = "on".equals(parser.oneOf(CACHE, "on", "off"));
+        cacheMaxEntries = parser.positiveInt(CACHE_MAX_ENTRIES);
+        cacheMaxBytes = parser.positiveLong(CACHE_MAX_BYTES);
+        cacheTtl = parser.positive(CACHE_TTL);
+        latencyReport = parser.parse(LATENCY_REPORT, Path::of);
+        Integer parsedPort = parser.parse(METRICS_PORT, value -> {
+            if ("off".equalsIgnoreCase(value)) {
+                return -1;
+            }
+            int port = Integer.parseInt(value);
+            if (port < 0 || port > 65_535) {
+                throw new IllegalArgumentException("expected off or a port between 0 and 65535");
+            }
+            return port;
+        });
+        metricsPort = parsedPort == null ? -1 : parsedPort;
+        metricsHost = values.get(METRICS_HOST);
+        journalEnabled = "on".equals(parser.oneOf(JOURNAL, "on", "off"));
+        journalFile = parser.parse(JOURNAL_FILE, Path::of);
+        Double parsedSample = parser.parse(JOURNAL_BODY_SAMPLE, value -> {
+            double parsed = Double.parseDouble(value);
+            if (!(parsed >= 0 && parsed <= 1)) {
+                throw new IllegalArgumentException("expected a fraction between 0 and 1");
+            }
+            return parsed;
+        });
+        journalBodySample = parsedSample == null ? 0 : parsedSample;
+        journalBuffer = parser.positiveInt(JOURNAL_BUFFER);
+        journalRotateSize = parser.positiveLong(JOURNAL_ROTATE_SIZE);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration:\n  " + String.join("\n  ", errors));
+        }
+    }
+
+    /**
+     * Разбор значений с накоплением ошибок: неверное значение не прерывает проверку остальных.
+     */
+    private record Parser(Map<String, String> values, Map<String, String> sources, List<String> errors) {
+
+        <T> T parse(String key, Function<String, T> parser) {
+            String value = values.get(key);
+            try {
+                return parser.apply(value);
+            } catch (RuntimeException e) {
+                String reason = e instanceof NumberFormatException ? "not a number" : e.getMessage();
+                errors.add(key + "=" + value + " (" + sources.get(key) + "): " + reason);
+                return null;
+            }
+        }
+
+        String oneOf(String key, String... allowed) {
+            return parse(key, value -> {
+                String normalized = value.toLowerCase(Locale.ROOT);
+                for (String candidate : allowed) {
+                    if (candidate.equals(normalized)) {
+                        return candidate;
+                    }
+                }
+                throw new IllegalArgumentException("expected one of " + String.join("|", allowed));
+            });
+        }
+
+        int positiveInt(String key) {
+            Integer parsed = parse(key, value -> {
+                int number = Integer.parseInt(value);
+                if (number <= 0) {
+                    throw new IllegalArgumentException("must be positive");
+                }
+                return number;
+            });
+            return parsed == null ? 0 : parsed;
+        }
+
+        long positiveLong(String key) {
+            Long parsed = parse(key, value -> {
+                long number = Long.parseLong(value);
+                if (number <= 0) {
+                    throw new IllegalArgumentException("must be positive");
+                }
+                return number;
+            });
+            return parsed == null ? 0 : parsed;
+        }
+
+        Duration positive(String key) {
+            return parse(key, value -> {
+                Duration parsed = parseDuration(value);
+                if (parsed.isZero()) {
+                    throw new IllegalArgumentException("must be positive");
+                }
+                return parsed;
+            });
+        }
+    }
+
+    private static void merge(Properties source, String name, Map<String, String> values,
+                              Map<String, String> sources, List<String> errors) {
+        for (String key : source.stringPropertyNames()) {
+            if (!DEFAULTS.containsKey(key)) {
+                // Опечатка в имени ключа иначе молча оставила бы значение по умолчанию
+                errors.add(key + " (" + name + "): unknown key");
+                continue;
+            }
+            values.put(key, source.getProperty(key).trim());
+            sources.put(key, name);
+        }
+    }
+
+    private static String lookup(String key, Map<String, String> env, Properties system) {
+        String value = system.getProperty(key);
+        return value != null ? value : env.get(envName(key));
+    }
+
+    /**
+     * Имя переменной окружения для ключа: {@code api.base-url} — {@code API_BASE_URL}.
+     */
+    static String envName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static String parseBaseUrl(String value) {
+        URI uri = URI.create(value);
+        if (!("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) || uri.getHost() == null) {
+            throw new IllegalArgumentException("expected http(s)://host[:port]");
+        }
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    /**
+     * Длительность вида {@code 500ms}, {@code 30s}, {@code 5m}, {@code 8h} или ISO-8601 ({@code PT5M}).
+     */
+    public static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        if (v.startsWith("p")) {
+            try {
+                return requireNonNegative(Duration.parse(v), value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Unknown duration: " + value);
+            }
+        }
+        if (v.endsWith("ms")) {
+            return requireNonNegative(Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2))), value);
+        }
+        if (v.isEmpty()) {
+            throw new IllegalArgumentException("Unknown duration: " + value);
+        }
+        long amount = Long.parseLong(v.substring(0, v.length() - 1));
+        return requireNonNegative(switch (v.charAt(v.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unknown duration: " + value);
+        }, value);
+    }
+
+    private static Duration requireNonNegative(Duration duration, String value) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Negative duration: " + value);
+        }
+        return duration;
+    }
+
+    /**
+     * Цель прогона: {@code stub} — встроенная заглушка {@link org.example.stub.ItemServiceStub},
+     * {@code remote} — реальный сервис по {@link #baseUrl()}.
+     */
+    public String target() {
+        return target;
+    }
+
+    public boolean useStub() {
+        return "stub".equals(target);
+    }
+
+    /**
+     * Адрес сервиса без завершающего {@code /}.
+     */
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Предел ожидания ответа на один запрос.
+     */
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Число соединений в пуле тестового клиента и число простаивающих соединений JDK-клиента.
+     */
+    public int poolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Число потоков JUnit при параллельном запуске тестов.
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Интенсивность нагрузки по умолчанию, запросов в секунду.
+     */
+    public double rps() {
+        return rps;
+    }
+
+    public Duration warmup() {
+        return warmup;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Захват трафика тестов: {@code off}, {@code record} — запись пар запрос/ответ в {@link #trafficFile()},
+     * {@code replay} — ответы из записанного журнала без сети.
+     */
+    public String traffic() {
+        return traffic;
+    }
+
+    public boolean recordTraffic() {
+        return "record".equals(traffic);
+    }
+
+    public boolean replayTraffic() {
+        return "replay".equals(traffic);
+    }
+
+    public Path trafficFile() {
+        return trafficFile;
+    }
+
+    /**
+     * Кеш повторных GET в стадии чтения режима {@code soak}; по умолчанию для {@code --cache}.
+     */
+    public boolean cacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public int cacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+
+    public long cacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public Duration cacheTtl() {
+        return cacheTtl;
+    }
+
+    public Path latencyReport() {
+        return latencyReport;
+    }
+
+    /**
+     * Порт эндпоинта {@code /metrics} нагрузочных режимов; {@code -1} — выключен ({@code off}),
+     * {@code 0} — любой свободный.
+     */
+    public int metricsPort() {
+        return metricsPort;
+    }
+
+    /**
+     * Адрес, на котором слушает {@code /metrics}; по умолчанию только локальный, в контейнере — {@code 0.0.0.0}.
+     */
+    public String metricsHost() {
+        return metricsHost;
+    }
+
+    /**
+     * Журнал запросов и ответов ({@code org.example.journal.Journal}) тестов и режима {@code load}.
+     */
+    public boolean journalEnabled() {
+        return journalEnabled;
+    }
+
+    /**
+     * Файл журнала; при ротации рядом появляются {@code journal.1.jsonl.gz}, {@code journal.2.jsonl.gz}...
+     */
+    public Path journalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Доля успешных обменов, которые попадают в журнал с телами; у неуспешных тела пишутся всегда.
+     */
+    public double journalBodySample() {
+        return journalBodySample;
+    }
+
+    /**
+     * Ёмкость кольцевого буфера журнала, записей; при переполнении записи отбрасываются.
+     */
+    public int journalBuffer() {
+        return journalBuffer;
+    }
+
+    /**
+     * Размер сжатого файла журнала, после которого запись продолжается в следующем, байт.
+     */
+    public long journalRotateSize() {
+        return journalRotateSize;
+    }
+
+    /**
+     * Откуда взято значение ключа: {@code default}, {@code profile load}, {@code file ...},
+     * {@code env API_...} или {@code -D...}.
+     */
+    public String source(String key) {
+        return sources.get(key);
+    }
+
+    /**
+     * Действующие значения, заданные не по умолчанию, с источниками — для журнала прогона.
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("Config:");
+        values.forEach((key, value) -> {
+            if (!"default".equals(sources.get(key))) {
+                out.append(' ').append(key).append('=').append(value);
+            }
+        });
+        return out.length() == "Config:".length() ? "Config: defaults" : out.toString();
+    }
 }
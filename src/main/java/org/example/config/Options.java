@@ -0,0 +1,41 @@
+package org.example.config;
+
+/**
+ * Разбор аргументов командной строки вида {@code --name=value}, общий для всех режимов {@code App}.
+ * Значения разбирает сам режим; здесь — только форма аргумента и сообщение о неизвестном параметре.
+ */
+public final class Options {
+
+    /**
+     * Обработчик одного параметра.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * @return {@code false}, если параметр неизвестен
+         */
+        boolean accept(String name, String value);
+    }
+
+    private Options() {
+    }
+
+    /**
+     * Передаёт каждый аргумент обработчику по порядку.
+     *
+     * @throws IllegalArgumentException если аргумент не вида {@code --name=value} или параметр неизвестен
+     */
+    public static void parse(String[] args, Handler handler) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            if (!handler.accept(name, arg.substring(eq + 1))) {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+    }
+}
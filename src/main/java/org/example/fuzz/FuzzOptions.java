@@ -0,0 +1,94 @@
+package org.example.fuzz;
+
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Параметры фаззинга POST /api/1/item. Разбираются из аргументов вида {@code --count=100000}.
+ * <pre>
+ *   --count=10000              сколько тел сгенерировать и отправить
+ *   --duration=5m              предел длительности отправки; по умолчанию не ограничена
+ *   --concurrency=128          предел одновременных запросов
+ *   --seed=42                  начальное значение генератора; по умолчанию случайное и печатается
+ *   --shrink-budget=200        сколько запросов можно потратить на сжатие одной находки
+ *   --target=stub|remote       встроенная заглушка или реальный сервис
+ *   --base-url=https://...     адрес сервиса для target=remote
+ *   --output=fuzz-findings.jsonl  находки; уже записанные сигнатуры повторно не добавляются
+ * </pre>
+ */
+public class FuzzOptions {
+    private long count = 10_000;
+    private Duration duration;
+    private int concurrency = 128;
+    private long seed = ThreadLocalRandom.current().nextLong();
+    private int shrinkBudget = 200;
+    private String target = Config.get().target();
+    private String baseUrl = Config.get().baseUrl();
+    private Path output = Path.of("fuzz-findings.jsonl");
+
+    public static FuzzOptions parse(String[] args) {
+        FuzzOptions options = new FuzzOptions();
+        Options.parse(args, (name, value) -> {
+            switch (name) {
+                case "count" -> options.count = Long.parseLong(value);
+                case "duration" -> options.duration = Config.parseDuration(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "shrink-budget" -> options.shrinkBudget = Integer.parseInt(value);
+                case "target" -> options.target = value;
+                case "base-url" -> options.baseUrl = value;
+                case "output" -> options.output = Path.of(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (options.count <= 0 || options.concurrency <= 0) {
+            throw new IllegalArgumentException("--count and --concurrency must be positive");
+        }
+        if (options.shrinkBudget < 0) {
+            throw new IllegalArgumentException("--shrink-budget must not be negative");
+        }
+        return options;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Предел длительности отправки или {@code null}, если он не задан.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public int shrinkBudget() {
+        return shrinkBudget;
+    }
+
+    public boolean useStub() {
+        return "stub".equalsIgnoreCase(target);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Path output() {
+        return output;
+    }
+}
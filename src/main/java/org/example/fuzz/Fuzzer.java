@@ -0,0 +1,241 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.api.Endpoint;
+import org.example.client.HttpClients;
+import org.example.config.Config;
+import org.example.stub.ItemServiceStub;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Фаззинг создания объявления: генерирует тела запросов ({@link PayloadGenerator}), отправляет их
+ * асинхронно и сравнивает ответы с ожидаемым поведением ({@link Oracle}).
+ * <p>
+ * Находки дедуплицируются по сигнатуре: хранится первое тело и число повторов. После отправки
+ * каждое такое тело сжимается ({@link Shrinker}) и дописывается в {@code --output} строкой JSON —
+ * готовым воспроизведением для баг-репорта. Сигнатуры, уже записанные в файл прошлыми прогонами,
+ * повторно не добавляются.
+ */
+public class Fuzzer {
+    private static final Duration REQUEST_TIMEOUT = Config.get().requestTimeout();
+    private static final int PAYLOAD_LIMIT = 4096;
+    private static final int RESPONSE_LIMIT = 1024;
+
+    private final FuzzOptions options;
+    private final HttpClient client;
+    private final URI createUri;
+    private final Semaphore permits;
+    private final LongAdder sent = new LongAdder();
+    private final Map<Oracle.Signature, Finding> findings = new ConcurrentHashMap<>();
+
+    public Fuzzer(FuzzOptions options, String baseUrl) {
+        this.options = options;
+        this.client = HttpClients.create(baseUrl);
+        this.createUri = URI.create(baseUrl + Endpoint.CREATE_ITEM.path(null));
+        this.permits = new Semaphore(options.concurrency());
+    }
+
+    /**
+     * Первое тело с данной сигнатурой и число тел, на которых она встретилась.
+     */
+    private static final class Finding {
+        final Oracle.Signature signature;
+        final Payload example;
+        final LongAdder count = new LongAdder();
+
+        Finding(Oracle.Signature signature, Payload example) {
+            this.signature = signature;
+            this.example = example;
+        }
+    }
+
+    /**
+     * Точка входа режима {@code fuzz}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        FuzzOptions options = FuzzOptions.parse(args);
+        if (options.useStub()) {
+            try (ItemServiceStub stub = ItemServiceStub.start()) {
+                new Fuzzer(options, stub.baseUrl()).run();
+            }
+        } else {
+            new Fuzzer(options, options.baseUrl()).run();
+        }
+    }
+
+    /**
+     * @return число новых находок, записанных в файл
+     */
+    public int run() throws IOException, InterruptedException {
+        System.out.printf("Fuzzing %s with seed %d%n", createUri, options.seed());
+        long started = System.nanoTime();
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fuzz-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(() -> System.out.printf("sent %d, %.0f payloads/s, signatures %d%n",
+                sent.sum(), sent.sum() / ((System.nanoTime() - started) / 1e9), findings.size()),
+                5, 5, TimeUnit.SECONDS);
+        try {
+            PayloadGenerator generator = new PayloadGenerator(options.seed());
+            long deadline = options.duration() == null ? Long.MAX_VALUE
+                    : started + options.duration().toNanos();
+            for (long i = 0; i < options.count() && System.nanoTime() - deadline < 0; i++) {
+                permits.acquire();
+                send(generator.next());
+            }
+            // Все разрешения свободны — значит, получены ответы на все запросы
+            permits.acquire(options.concurrency());
+            permits.release(options.concurrency());
+        } finally {
+            progress.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Sent %d payloads in %.1f s (%.0f payloads/s), %d distinct signatures%n",
+                sent.sum(), seconds, sent.sum() / seconds, findings.size());
+
+        Set<String> known = knownSignatures(options.output());
+        List<Finding> fresh = new ArrayList<>();
+        for (Finding finding : findings.values()) {
+            if (!known.contains(finding.signature.toString())) {
+                fresh.add(finding);
+            }
+        }
+        fresh.sort(Comparator.comparing(f -> f.signature.toString()));
+        write(fresh);
+        System.out.printf("%d new findings (%d already in %s)%n", fresh.size(), findings.size() - fresh.size(),
+                options.output().toAbsolutePath());
+        return fresh.size();
+    }
+
+    private void send(Payload payload) {
+        SortedSet<String> violations = Oracle.violations(payload);
+        client.sendAsync(request(payload), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    try {
+                        int status = error == null ? response.statusCode() : 0;
+                        byte[] body = error == null ? response.body() : new byte[0];
+                        for (Oracle.Signature signature : Oracle.findings(violations, status, body)) {
+                            findings.computeIfAbsent(signature, s -> new Finding(s, payload)).count.increment();
+                        }
+                    } finally {
+                        sent.increment();
+                        permits.release();
+                    }
+                });
+    }
+
+    /**
+     * Синхронная отправка для сжатия; {@code null} — ответа нет.
+     */
+    private HttpResponse<byte[]> sendNow(Payload payload) throws InterruptedException {
+        try {
+            return client.send(request(payload), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean reproduces(Payload payload, Oracle.Signature signature) {
+        try {
+            HttpResponse<byte[]> response = sendNow(payload);
+            return Oracle.findings(Oracle.violations(payload), response == null ? 0 : response.statusCode(),
+                    response == null ? new byte[0] : response.body()).contains(signature);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest request(Payload payload) {
+        return HttpRequest.newBuilder(createUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload.bytes()))
+                .build();
+    }
+
+    private void write(List<Finding> fresh) throws IOException, InterruptedException {
+        if (fresh.isEmpty()) {
+            return;
+        }
+        Path output = options.output();
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Finding finding : fresh) {
+                Shrinker.Result shrunk = Shrinker.shrink(finding.example,
+                        candidate -> reproduces(candidate, finding.signature), options.shrinkBudget());
+                HttpResponse<byte[]> response = sendNow(shrunk.payload());
+
+                ObjectNode line = Payload.MAPPER.createObjectNode()
+                        .put("signature", finding.signature.toString())
+                        .put("kind", finding.signature.kind())
+                        .put("status", finding.signature.status())
+                        .put("rule", finding.signature.rule())
+                        .put("count", finding.count.sum())
+                        .put("seed", options.seed())
+                        .put("payload", Oracle.abbreviate(shrunk.payload().text(), PAYLOAD_LIMIT))
+                        .put("response", response == null ? null
+                                : Oracle.abbreviate(response.body(), RESPONSE_LIMIT))
+                        .put("original", Oracle.abbreviate(finding.example.text(), RESPONSE_LIMIT))
+                        .put("shrinkSteps", shrunk.steps());
+                out.write(Payload.MAPPER.writeValueAsString(line));
+                out.newLine();
+                out.flush();
+                System.out.printf("  %-45s x%-6d %s%n", finding.signature, finding.count.sum(),
+                        Oracle.abbreviate(shrunk.payload().text(), 100));
+            }
+        }
+    }
+
+    private static Set<String> knownSignatures(Path output) throws IOException {
+        Set<String> known = new HashSet<>();
+        if (!Files.exists(output)) {
+            return known;
+        }
+        try (Stream<String> lines = Files.lines(output, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    JsonNode signature = Payload.MAPPER.readTree(line).path("signature");
+                    if (signature.isTextual()) {
+                        known.add(signature.textValue());
+                    }
+                } catch (IOException e) {
+                    // Повреждённая строка не мешает дописать новые находки
+                }
+            });
+        }
+        return known;
+    }
+}
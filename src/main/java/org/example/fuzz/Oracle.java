@@ -0,0 +1,191 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.model.CreateItemResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static org.example.fuzz.PayloadGenerator.NAME;
+import static org.example.fuzz.PayloadGenerator.PRICE;
+import static org.example.fuzz.PayloadGenerator.SELLER_ID;
+import static org.example.fuzz.PayloadGenerator.STATISTICS;
+import static org.example.fuzz.PayloadGenerator.STATISTICS_FIELDS;
+
+/**
+ * Ожидаемое поведение POST /api/1/item по TESTCASES.md и сравнение с ним фактического ответа.
+ * <p>
+ * Корректное тело должно давать 200 и {@code "Сохранили объявление - <uuid>"}, некорректное —
+ * 4xx с конвертом ошибки, в {@code result.messages} которого названо ошибочное поле.
+ * Каждое расхождение — находка с сигнатурой «вид, код ответа, правило»: по ней находки
+ * дедуплицируются, и она же — условие сохранения при сжатии тела.
+ */
+final class Oracle {
+    static final String VALID = "valid";
+
+    private static final List<String> FIELDS = List.of(SELLER_ID, NAME, PRICE, STATISTICS);
+
+    private static final Pattern SAVED = Pattern.compile(Pattern.quote(CreateItemResponse.SAVED_PREFIX)
+            + "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    /**
+     * Сигнатура находки. {@code rule} — нарушенное правило тела ({@code name.blank}, {@code price.negative}...)
+     * или {@link #VALID} для корректного тела.
+     */
+    record Signature(String kind, int status, String rule) {
+
+        @Override
+        public String toString() {
+            return kind + " " + status + " " + rule;
+        }
+    }
+
+    private Oracle() {
+    }
+
+    /**
+     * Правила, которые нарушает тело; пустой набор — тело корректно.
+     */
+    static SortedSet<String> violations(Payload payload) {
+        SortedSet<String> rules = new TreeSet<>();
+        JsonNode body = payload.parsed();
+        if (body == null) {
+            rules.add(payload.text().isBlank() ? "body.empty" : "body.malformed");
+            return rules;
+        }
+        if (!body.isObject()) {
+            rules.add("body.not-object");
+            return rules;
+        }
+        for (Iterator<String> it = body.fieldNames(); it.hasNext(); ) {
+            String key = it.next();
+            for (String field : FIELDS) {
+                if (!key.equals(field) && key.equalsIgnoreCase(field)) {
+                    // Ключи JSON чувствительны к регистру: "NAME" — не поле name
+                    rules.add(field + ".case-variant");
+                }
+            }
+        }
+        integer(body.get(SELLER_ID), SELLER_ID, true, rules);
+        if (rules.stream().noneMatch(r -> r.startsWith(SELLER_ID)) && body.get(SELLER_ID).longValue() <= 0) {
+            rules.add(SELLER_ID + ".non-positive");
+        }
+        JsonNode name = body.get(NAME);
+        if (name == null || name.isNull()) {
+            rules.add(NAME + ".missing");
+        } else if (!name.isTextual()) {
+            rules.add(NAME + ".type");
+        } else if (name.textValue().isBlank()) {
+            rules.add(NAME + ".blank");
+        }
+        integer(body.get(PRICE), PRICE, true, rules);
+        JsonNode statistics = body.get(STATISTICS);
+        if (statistics != null && !statistics.isNull()) {
+            if (!statistics.isObject()) {
+                rules.add(STATISTICS + ".type");
+            } else {
+                for (String field : STATISTICS_FIELDS) {
+                    integer(statistics.get(field), STATISTICS + "." + field, false, rules);
+                }
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Обязательное (или необязательное) целое неотрицательное поле в пределах int64.
+     */
+    private static void integer(JsonNode value, String field, boolean required, SortedSet<String> rules) {
+        if (value == null || value.isNull()) {
+            if (required) {
+                rules.add(field + ".missing");
+            }
+        } else if (!value.isIntegralNumber()) {
+            rules.add(field + ".type");
+        } else if (!value.canConvertToLong()) {
+            rules.add(field + ".range");
+        } else if (value.longValue() < 0) {
+            rules.add(field + ".negative");
+        }
+    }
+
+    /**
+     * Находки по ответу сервиса; {@code status} {@code 0} — ответа нет.
+     */
+    static List<Signature> findings(SortedSet<String> violations, int status, byte[] body) {
+        List<Signature> findings = new ArrayList<>();
+        String firstRule = violations.isEmpty() ? VALID : violations.first();
+        if (status == 0) {
+            findings.add(new Signature("no-response", 0, firstRule));
+        } else if (status >= 500) {
+            findings.add(new Signature("server-error", status, firstRule));
+        } else if (status == 200) {
+            if (!savedStatus(body)) {
+                findings.add(new Signature("malformed-response", status, firstRule));
+            }
+            for (String rule : violations) {
+                findings.add(new Signature("accepted-invalid", status, rule));
+            }
+        } else if (status >= 400 && status < 500) {
+            if (violations.isEmpty()) {
+                findings.add(new Signature("rejected-valid", status, VALID));
+            } else {
+                JsonNode messages = errorMessages(body);
+                if (messages == null) {
+                    findings.add(new Signature("malformed-response", status, firstRule));
+                } else if (violations.size() == 1 && !firstRule.startsWith("body.")
+                        && !messages.has(firstRule.substring(0, firstRule.indexOf('.')))) {
+                    // При нескольких нарушениях неизвестно, какое из них отклонило тело, поэтому
+                    // отсутствие подробностей засчитывается только телам с одним нарушением
+                    findings.add(new Signature("error-without-details", status, firstRule));
+                }
+            }
+        } else {
+            findings.add(new Signature("unexpected-status", status, firstRule));
+        }
+        return findings;
+    }
+
+    private static boolean savedStatus(byte[] body) {
+        JsonNode status = readTree(body).path("status");
+        return status.isTextual() && SAVED.matcher(status.textValue()).matches();
+    }
+
+    /**
+     * {@code result.messages} конверта ошибки; {@code null}, если конверта нет.
+     * Пустое значение {@code null} в {@code messages} считается пустым объектом.
+     */
+    private static JsonNode errorMessages(byte[] body) {
+        JsonNode root = readTree(body);
+        JsonNode result = root.path("result");
+        if (!result.isObject() || !result.path("message").isTextual() || !root.has("status")) {
+            return null;
+        }
+        JsonNode messages = result.path("messages");
+        return messages.isObject() ? messages : Payload.MAPPER.createObjectNode();
+    }
+
+    private static JsonNode readTree(byte[] body) {
+        try {
+            JsonNode node = Payload.MAPPER.readTree(body);
+            return node == null ? Payload.MAPPER.missingNode() : node;
+        } catch (IOException e) {
+            return Payload.MAPPER.missingNode();
+        }
+    }
+
+    static String abbreviate(byte[] body, int limit) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        return abbreviate(text, limit);
+    }
+
+    static String abbreviate(String text, int limit) {
+        return text.length() <= limit ? text : text.substring(0, limit) + "... (" + text.length() + " chars)";
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Тело запроса создания объявления: JSON-дерево или, для синтаксически неверных тел, сырая строка.
+ */
+record Payload(JsonNode tree, String raw) {
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static Payload of(JsonNode tree) {
+        return new Payload(tree, null);
+    }
+
+    static Payload raw(String raw) {
+        return new Payload(null, raw);
+    }
+
+    String text() {
+        if (raw != null) {
+            return raw;
+        }
+        try {
+            return MAPPER.writeValueAsString(tree);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize payload", e);
+        }
+    }
+
+    byte[] bytes() {
+        return text().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Дерево тела: для сырой строки — результат её разбора или {@code null}, если это не JSON.
+     */
+    JsonNode parsed() {
+        if (tree != null) {
+            return tree;
+        }
+        try {
+            JsonNode node = MAPPER.readTree(raw);
+            return node == null || node.isMissingNode() ? null : node;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Генератор тел POST /api/1/item: корректные значения вперемешку с граничными числами, неверными типами,
+ * длинными строками, юникодом, пропущенными и лишними полями и синтаксически неверным JSON.
+ * <p>
+ * Последовательность полностью определяется начальным значением генератора, поэтому прогон
+ * воспроизводится через {@code --seed}.
+ */
+final class PayloadGenerator {
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    static final String SELLER_ID = "sellerID";
+    static final String NAME = "name";
+    static final String PRICE = "price";
+    static final String STATISTICS = "statistics";
+    static final List<String> STATISTICS_FIELDS = List.of("contacts", "likes", "viewCount");
+
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final List<BigInteger> BOUNDARY_INTS = List.of(
+            BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(-1),
+            BigInteger.valueOf(127), BigInteger.valueOf(128), BigInteger.valueOf(255), BigInteger.valueOf(256),
+            BigInteger.valueOf(32_767), BigInteger.valueOf(32_768), BigInteger.valueOf(65_535),
+            BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.valueOf(Integer.MAX_VALUE + 1L),
+            BigInteger.valueOf(Integer.MIN_VALUE), BigInteger.valueOf(Integer.MIN_VALUE - 1L),
+            BigInteger.ONE.shiftLeft(53), BigInteger.ONE.shiftLeft(53).add(BigInteger.ONE),
+            LONG_MAX, LONG_MIN, LONG_MAX.add(BigInteger.ONE), LONG_MIN.subtract(BigInteger.ONE));
+    private static final List<String> SPECIAL_STRINGS = List.of(
+            "", " ", "\t\n", "0", "null", "true", "\uD83D\uDE00", "Привет, мир", "e\u0301",
+            "\u202Eevil", "a\u200Bb", "\uFEFFbom", "\u0000", "' OR 1=1 --", "<script>alert(1)</script>",
+            "%s%n%x", "../../etc/passwd", "{}", "\\u0000");
+    private static final List<Integer> LONG_STRING_LENGTHS = List.of(255, 256, 257, 1024, 4096, 65_536);
+    private static final List<String> EXTRA_FIELDS = List.of("id", "createdAt", "SellerID", "NAME", "Price", "extra");
+
+    private final SplittableRandom random;
+
+    PayloadGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    Payload next() {
+        return random.nextInt(100) < 5 ? malformed() : Payload.of(object());
+    }
+
+    private ObjectNode object() {
+        ObjectNode body = NODES.objectNode();
+        putMaybe(body, SELLER_ID, this::integer);
+        putMaybe(body, NAME, this::string);
+        putMaybe(body, PRICE, this::integer);
+        int statistics = random.nextInt(10);
+        if (statistics < 5) {
+            ObjectNode node = body.putObject(STATISTICS);
+            for (String field : STATISTICS_FIELDS) {
+                putMaybe(node, field, this::integer);
+            }
+        } else if (statistics < 7) {
+            body.set(STATISTICS, wrongType());
+        }
+        if (random.nextInt(10) == 0) {
+            body.set(EXTRA_FIELDS.get(random.nextInt(EXTRA_FIELDS.size())), random.nextBoolean()
+                    ? NODES.numberNode(random.nextInt(1_000_000)) : NODES.textNode("extra"));
+        }
+        return body;
+    }
+
+    /**
+     * Поле с обычным значением; в 10% случаев поле пропущено, в 15% — значение неверного типа.
+     */
+    private void putMaybe(ObjectNode body, String field, Supplier<JsonNode> value) {
+        int roll = random.nextInt(100);
+        if (roll < 10) {
+            return;
+        }
+        body.set(field, roll < 25 ? wrongType() : value.get());
+    }
+
+    private JsonNode integer() {
+        if (random.nextBoolean()) {
+            return NODES.numberNode(random.nextLong(1, 1_000_000_000L));
+        }
+        BigInteger value = BOUNDARY_INTS.get(random.nextInt(BOUNDARY_INTS.size()));
+        return value.bitLength() < 64 ? NODES.numberNode(value.longValue()) : NODES.numberNode(value);
+    }
+
+    private JsonNode string() {
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            return NODES.textNode("fuzz-" + random.nextInt(1_000_000));
+        }
+        if (roll < 90) {
+            return NODES.textNode(SPECIAL_STRINGS.get(random.nextInt(SPECIAL_STRINGS.size())));
+        }
+        // Мегабайтная строка — одна на тысячу: она нагружает сеть сильнее всего остального потока
+        int length = random.nextInt(100) == 0 ? 1 << 20
+                : LONG_STRING_LENGTHS.get(random.nextInt(LONG_STRING_LENGTHS.size()));
+        String unit = random.nextBoolean() ? "A" : "я";
+        return NODES.textNode(unit.repeat(length));
+    }
+
+    private JsonNode wrongType() {
+        return switch (random.nextInt(8)) {
+            case 0 -> NODES.textNode(Integer.toString(random.nextInt(1_000_000)));
+            case 1 -> NODES.numberNode(random.nextDouble() * 1000);
+            case 2 -> NODES.numberNode(1e3);
+            case 3 -> NODES.booleanNode(random.nextBoolean());
+            case 4 -> NODES.nullNode();
+            case 5 -> NODES.arrayNode();
+            case 6 -> NODES.arrayNode().add("x");
+            default -> NODES.objectNode();
+        };
+    }
+
+    private Payload malformed() {
+        return switch (random.nextInt(7)) {
+            case 0 -> Payload.raw("");
+            case 1 -> Payload.raw("[]");
+            case 2 -> Payload.raw("null");
+            case 3 -> Payload.raw("\"item\"");
+            case 4 -> Payload.raw("{\"sellerID\": 1, \"name\": \"x\", \"price\": 1,}");
+            case 5 -> Payload.raw("{\"sellerID\": 1, \"sellerID\": 2, \"name\": \"x\", \"price\": 1}");
+            default -> {
+                // Обрезанный корректный JSON
+                String text = Payload.of(object()).text();
+                yield Payload.raw(text.substring(0, random.nextInt(text.length())));
+            }
+        };
+    }
+}
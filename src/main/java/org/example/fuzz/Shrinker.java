@@ -0,0 +1,138 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.example.fuzz.PayloadGenerator.NAME;
+import static org.example.fuzz.PayloadGenerator.PRICE;
+import static org.example.fuzz.PayloadGenerator.SELLER_ID;
+
+/**
+ * Сжатие тела, на котором воспроизводится находка, до минимального.
+ * <p>
+ * Жадный поиск: из текущего тела строятся более простые варианты, и первый, на котором находка
+ * всё ещё воспроизводится, становится текущим. Сначала поля заменяются корректными значениями
+ * из {@link #BASELINE} — в отчёт попадает тело, которое отличается от обычного только виновным полем, —
+ * затем удаляются необязательные поля, укорачиваются строки и уменьшаются числа.
+ * Каждая проверка варианта — запрос к сервису, поэтому их число ограничено бюджетом.
+ */
+final class Shrinker {
+    static final ObjectNode BASELINE = JsonNodeFactory.instance.objectNode()
+            .put(SELLER_ID, 123456)
+            .put(NAME, "Test name")
+            .put(PRICE, 120);
+
+    private Shrinker() {
+    }
+
+    /**
+     * @param reproduces условие находки; вызывается не больше {@code budget} раз
+     */
+    static Result shrink(Payload payload, Predicate<Payload> reproduces, int budget) {
+        Payload current = payload;
+        int attempts = 0;
+        int steps = 0;
+        boolean progress = true;
+        while (progress && attempts < budget) {
+            progress = false;
+            for (Payload candidate : candidates(current)) {
+                if (attempts++ >= budget) {
+                    break;
+                }
+                if (reproduces.test(candidate)) {
+                    current = candidate;
+                    steps++;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+        return new Result(current, steps, attempts);
+    }
+
+    record Result(Payload payload, int steps, int attempts) {
+    }
+
+    private static List<Payload> candidates(Payload payload) {
+        List<Payload> candidates = new ArrayList<>();
+        if (payload.raw() != null) {
+            String raw = payload.raw();
+            if (raw.length() > 1) {
+                candidates.add(Payload.raw(raw.substring(0, raw.length() / 2)));
+                candidates.add(Payload.raw(raw.substring(0, raw.length() - 1)));
+            }
+            return candidates;
+        }
+        if (!(payload.tree() instanceof ObjectNode body)) {
+            return candidates;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = BASELINE.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            if (!field.getValue().equals(body.get(field.getKey()))) {
+                candidates.add(Payload.of(body.deepCopy().set(field.getKey(), field.getValue())));
+            }
+        }
+        for (Iterator<String> it = body.fieldNames(); it.hasNext(); ) {
+            String name = it.next();
+            if (!BASELINE.has(name)) {
+                ObjectNode copy = body.deepCopy();
+                copy.remove(name);
+                candidates.add(Payload.of(copy));
+            }
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = body.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            if (field.getValue().equals(BASELINE.get(field.getKey()))) {
+                // Корректное значение не упрощается: иначе поиск ходил бы по кругу
+                continue;
+            }
+            for (JsonNode simpler : simpler(field.getValue())) {
+                candidates.add(Payload.of(body.deepCopy().set(field.getKey(), simpler)));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Более простые значения того же типа: короче строка, ближе к нулю число, меньше полей объекта.
+     */
+    private static List<JsonNode> simpler(JsonNode value) {
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        List<JsonNode> simpler = new ArrayList<>();
+        if (value.isTextual()) {
+            String text = value.textValue();
+            if (text.length() > 1) {
+                simpler.add(nodes.textNode(text.substring(0, text.length() / 2)));
+                simpler.add(nodes.textNode(text.substring(0, text.length() - 1)));
+            }
+        } else if (value.isIntegralNumber()) {
+            BigInteger number = value.bigIntegerValue();
+            if (number.abs().compareTo(BigInteger.ONE) > 0) {
+                BigInteger half = number.shiftRight(1);
+                simpler.add(half.bitLength() < 64 ? nodes.numberNode(half.longValue()) : nodes.numberNode(half));
+                simpler.add(nodes.numberNode(number.signum()));
+            }
+        } else if (value.isObject() && !value.isEmpty()) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = value.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                ObjectNode copy = ((ObjectNode) value).deepCopy();
+                copy.remove(field.getKey());
+                simpler.add(copy);
+                for (JsonNode nested : simpler(field.getValue())) {
+                    simpler.add(((ObjectNode) value).deepCopy().set(field.getKey(), nested));
+                }
+            }
+        } else if (value.isArray() && !value.isEmpty()) {
+            simpler.add(nodes.arrayNode());
+        }
+        return simpler;
+    }
+}
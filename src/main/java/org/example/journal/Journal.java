@@ -0,0 +1,226 @@
+package org.example.journal;
+
+import org.example.config.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Асинхронный журнал запросов и ответов: сжатый JSON Lines с ротацией ({@link JournalWriter}).
+ * <p>
+ * Вызывающий поток только кладёт запись в кольцевой буфер ({@link RingBuffer}) — без блокировок,
+ * ввода-вывода и сериализации. Отдельный поток забирает накопленное пачками, сериализует и сжимает,
+ * а на диск сбрасывает не чаще раза в секунду. Если поток записи не успевает и буфер заполнен, запись
+ * отбрасывается и учитывается в {@link #dropped()}: журнал никогда не тормозит запросы, поэтому его можно
+ * включать в нагрузочном прогоне, не меняя измеряемых задержек и пропускной способности.
+ * <p>
+ * Тела пишутся только у неуспешных обменов и у доли {@code api.journal.body-sample} успешных,
+ * см. {@link #captureBodies(boolean)}; у остальных — метод, путь, код и задержка.
+ */
+public final class Journal implements AutoCloseable {
+    private static final int BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path file;
+    private final RingBuffer<JournalEntry> buffer;
+    private final JournalWriter writer;
+    private final double bodySample;
+    private final LongAdder dropped = new LongAdder();
+    /** Вызовы {@link #offer}, которые ещё могут положить запись в буфер. */
+    private final AtomicInteger offering = new AtomicInteger();
+    private final Thread thread;
+    private volatile boolean closed;
+    private volatile long written;
+    private IOException failure;
+
+    private Journal(Path file, int capacity, long rotateBytes, double bodySample) throws IOException {
+        this.file = file;
+        this.buffer = new RingBuffer<>(capacity);
+        this.writer = new JournalWriter(file, rotateBytes);
+        this.bodySample = bodySample;
+        this.thread = new Thread(this::drainLoop, "journal-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Журнал по настройкам {@link Config}.
+     *
+     * @return журнал или {@code null}, если {@code api.journal=off}
+     */
+    public static Journal open() {
+        Config config = Config.get();
+        if (!config.journalEnabled()) {
+            return null;
+        }
+        return open(config.journalFile(), config.journalBuffer(), config.journalRotateSize(),
+                config.journalBodySample());
+    }
+
+    /**
+     * @param capacity    ёмкость буфера, записей
+     * @param rotateBytes размер сжатого файла, после которого начинается следующий
+     * @param bodySample  доля успешных обменов, которые пишутся с телами
+     */
+    public static Journal open(Path file, int capacity, long rotateBytes, double bodySample) {
+        try {
+            return new Journal(file, capacity, rotateBytes, bodySample);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal " + file, e);
+        }
+    }
+
+    /**
+     * Нужны ли тела для очередной записи: у неуспешного обмена — всегда, у успешного — с вероятностью
+     * {@code api.journal.body-sample}. Вызывается до того, как тела копируются или сохраняются.
+     */
+    public boolean captureBodies(boolean failed) {
+        return failed || bodySample > 0 && ThreadLocalRandom.current().nextDouble() < bodySample;
+    }
+
+    /**
+     * Передаёт запись потоку записи; не блокирует.
+     *
+     * @return {@code false}, если буфер заполнен или журнал закрыт — запись отброшена
+     */
+    public boolean offer(JournalEntry entry) {
+        offering.incrementAndGet();
+        try {
+            if (closed || !buffer.offer(entry)) {
+                dropped.increment();
+                return false;
+            }
+            return true;
+        } finally {
+            offering.decrementAndGet();
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Записи, переданные в файл.
+     */
+    public long written() {
+        return written;
+    }
+
+    /**
+     * Записи, отброшенные из-за заполненного буфера, закрытого журнала или ошибки записи.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private void drainLoop() {
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        while (true) {
+            boolean stopping = closed;
+            int drained = drainBatch();
+            if (drained > 0) {
+                dirty = true;
+                continue;
+            }
+            if (stopping) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (dirty && now - lastFlush >= FLUSH_INTERVAL_NANOS) {
+                flush();
+                dirty = false;
+                lastFlush = now;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    private int drainBatch() {
+        int drained = 0;
+        JournalEntry entry;
+        while (drained < BATCH_SIZE && (entry = buffer.poll()) != null) {
+            drained++;
+            if (failure != null) {
+                dropped.increment();
+                continue;
+            }
+            try {
+                writer.write(entry);
+                written++;
+            } catch (IOException e) {
+                fail(e);
+                dropped.increment();
+            }
+        }
+        return drained;
+    }
+
+    private void flush() {
+        if (failure == null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    private void fail(IOException e) {
+        failure = e;
+        System.err.println("Journal disabled after write error: " + e);
+    }
+
+    /**
+     * Дописывает всё, что уже в буфере, и закрывает файл.
+     *
+     * @throws UncheckedIOException если запись в файл не удалась
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!thread.isAlive()) {
+            // Вызов offer, прошедший проверку closed до закрытия, мог положить запись уже после последней пачки
+            // потока записи. Новые вызовы видят closed, поэтому достаточно дождаться начатых и дописать остаток
+            // здесь: поток записи завершён, и читатель буфера теперь этот поток
+            while (offering.get() != 0) {
+                Thread.onSpinWait();
+            }
+            while (drainBatch() > 0) {
+            }
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Failed to write journal " + file, failure);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Journal: %d entries written to %s, %d dropped", written, file.toAbsolutePath(),
+                dropped());
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.journal;
+
+/**
+ * Запись журнала: один обмен запрос/ответ.
+ * <p>
+ * Тела передаются по ссылке, без копирования: вызывающий не должен менять массивы после
+ * {@link Journal#offer(JournalEntry)}. Сериализация и усечение тел — в потоке записи журнала.
+ *
+ * @param timeMillis   момент получения ответа, мс от эпохи
+ * @param status       код ответа, {@code 0} — ответ не получен
+ * @param requestBody  тело запроса или {@code null}
+ * @param responseBody тело ответа или {@code null}
+ * @param failure      причина неуспеха (нарушение контракта, упавшая проверка теста, исключение) или {@code null}
+ */
+public record JournalEntry(long timeMillis, String method, String path, int status, long latencyNanos,
+                           byte[] requestBody, byte[] responseBody, String failure) {
+
+    public boolean failed() {
+        return failure != null || status == 0 || status >= 500;
+    }
+
+    public JournalEntry withoutBodies() {
+        return requestBody == null && responseBody == null ? this
+                : new JournalEntry(timeMillis, method, path, status, latencyNanos, null, null, failure);
+    }
+
+    public JournalEntry withFailure(String failure) {
+        return new JournalEntry(timeMillis, method, path, status, latencyNanos, requestBody, responseBody, failure);
+    }
+}
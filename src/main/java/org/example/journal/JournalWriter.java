@@ -0,0 +1,133 @@
+package org.example.journal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Сжатый файл журнала в формате JSON Lines: по объекту на обмен.
+ * <p>
+ * Когда сжатый файл превышает заданный размер, запись продолжается в {@code journal.1.jsonl.gz},
+ * {@code journal.2.jsonl.gz}... Каждый файл — самостоятельный gzip, его читают {@code zcat} и {@code zgrep}.
+ * Тела длиннее {@value #MAX_BODY_BYTES} байт усекаются, полная длина пишется в {@code requestBytes}
+ * и {@code responseBytes}.
+ */
+class JournalWriter implements AutoCloseable {
+    static final int MAX_BODY_BYTES = 16 << 10;
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int GZIP_BUFFER = 64 << 10;
+
+    private final Path base;
+    private final long rotateBytes;
+    private CountingOutputStream file;
+    private GZIPOutputStream gzip;
+    private JsonGenerator json;
+    private long entries;
+    private int part;
+
+    JournalWriter(Path base, long rotateBytes) throws IOException {
+        this.base = base;
+        this.rotateBytes = rotateBytes;
+        if (base.getParent() != null) {
+            Files.createDirectories(base.getParent());
+        }
+        open(base);
+    }
+
+    void write(JournalEntry entry) throws IOException {
+        if (entries > 0 && file.count >= rotateBytes) {
+            finish();
+            part++;
+            open(partPath());
+        }
+        json.writeStartObject();
+        json.writeStringField("time", Instant.ofEpochMilli(entry.timeMillis()).toString());
+        json.writeStringField("method", entry.method());
+        json.writeStringField("path", entry.path());
+        json.writeNumberField("status", entry.status());
+        json.writeNumberField("latencyMs", Math.round(entry.latencyNanos() / 1000.0) / 1000.0);
+        if (entry.failure() != null) {
+            json.writeStringField("failure", entry.failure());
+        }
+        writeBody("request", entry.requestBody());
+        writeBody("response", entry.responseBody());
+        json.writeEndObject();
+        json.writeRaw('\n');
+        entries++;
+    }
+
+    /**
+     * Сбрасывает накопленное в файл так, чтобы его можно было прочитать до закрытия журнала.
+     */
+    void flush() throws IOException {
+        json.flush();
+    }
+
+    private void writeBody(String name, byte[] body) throws IOException {
+        if (body == null) {
+            return;
+        }
+        json.writeStringField(name, new String(body, 0, Math.min(body.length, MAX_BODY_BYTES),
+                StandardCharsets.UTF_8));
+        if (body.length > MAX_BODY_BYTES) {
+            json.writeNumberField(name + "Bytes", body.length);
+        }
+    }
+
+    private void open(Path path) throws IOException {
+        file = new CountingOutputStream(Files.newOutputStream(path));
+        // syncFlush: flush() выталкивает и то, что ещё в буфере компрессора
+        gzip = new GZIPOutputStream(file, GZIP_BUFFER, true);
+        json = JSON.createGenerator(gzip);
+        // Строки разделяет сам writeRaw('\n'); разделитель корневых значений по умолчанию — пробел
+        json.setRootValueSeparator(null);
+        entries = 0;
+    }
+
+    private void finish() throws IOException {
+        json.close();
+    }
+
+    private Path partPath() {
+        String name = base.getFileName().toString();
+        int dot = name.indexOf('.');
+        String partName = dot < 0 ? name + "." + part : name.substring(0, dot) + "." + part + name.substring(dot);
+        return base.resolveSibling(partName);
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    /**
+     * Считает сжатые байты, ушедшие в файл, — по ним решается ротация.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
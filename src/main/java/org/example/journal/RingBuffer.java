@@ -0,0 +1,78 @@
+package org.example.journal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ограниченная очередь на массиве для многих писателей и одного читателя (схема Вьюкова).
+ * <p>
+ * У каждой ячейки свой номер последовательности: писатель занимает позицию одним CAS по хвосту и публикует
+ * элемент записью номера, читатель забирает элементы без CAS. Ни блокировок, ни выделений памяти
+ * на операцию, а заполненная очередь сразу отвечает отказом, а не ждёт.
+ */
+final class RingBuffer<T> {
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    /** Читается и меняется только потоком-читателем. */
+    private long head;
+
+    /**
+     * @param capacity ёмкость; округляется вверх до степени двойки
+     */
+    RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        slots = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return {@code false}, если очередь заполнена
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Только для потока-читателя.
+     *
+     * @return следующий элемент или {@code null}, если очередь пуста
+     */
+    @SuppressWarnings("unchecked")
+    T poll() {
+        int index = (int) (head & mask);
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+        T element = (T) slots[index];
+        slots[index] = null;
+        sequences.setRelease(index, head + slots.length);
+        head++;
+        return element;
+    }
+}
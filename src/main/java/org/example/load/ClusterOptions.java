@@ -0,0 +1,79 @@
+package org.example.load;
+
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Параметры координатора распределённого прогона. Свои параметры разбираются здесь,
+ * остальные — параметры нагрузки {@link LoadOptions}: {@code --rps} — общая интенсивность всех агентов.
+ * <pre>
+ *   --agents=4                  число агентов; прогон начинается, когда подключились все
+ *   --port=7070                 порт, на котором координатор ждёт агентов; 0 — любой свободный
+ *   --spawn=false               true — запустить агентов локальными процессами этой же JVM
+ *   --interval=1s               период, с которым агенты присылают интервальные гистограммы
+ *   --agent-timeout=60s         сколько ждать подключения всех агентов
+ * </pre>
+ */
+public class ClusterOptions {
+    private int agents = 2;
+    private int port = 7070;
+    private boolean spawn;
+    private Duration interval = Duration.ofSeconds(1);
+    private Duration agentTimeout = Duration.ofSeconds(60);
+    private LoadOptions load;
+
+    public static ClusterOptions parse(String[] args) {
+        ClusterOptions options = new ClusterOptions();
+        List<String> loadArgs = new ArrayList<>();
+        Options.parse(args, (name, value) -> {
+            switch (name) {
+                case "agents" -> options.agents = Integer.parseInt(value);
+                case "port" -> options.port = Integer.parseInt(value);
+                case "spawn" -> options.spawn = Boolean.parseBoolean(value);
+                case "interval" -> options.interval = Config.parseDuration(value);
+                case "agent-timeout" -> options.agentTimeout = Config.parseDuration(value);
+                default -> loadArgs.add("--" + name + "=" + value);
+            }
+            return true;
+        });
+        if (options.agents <= 0) {
+            throw new IllegalArgumentException("--agents must be positive");
+        }
+        if (options.port < 0 || options.port > 65_535) {
+            throw new IllegalArgumentException("--port must be between 0 and 65535");
+        }
+        if (options.interval.isZero()) {
+            throw new IllegalArgumentException("--interval must be positive");
+        }
+        options.load = LoadOptions.parse(loadArgs.toArray(new String[0]));
+        return options;
+    }
+
+    public int agents() {
+        return agents;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public boolean spawn() {
+        return spawn;
+    }
+
+    public Duration interval() {
+        return interval;
+    }
+
+    public Duration agentTimeout() {
+        return agentTimeout;
+    }
+
+    public LoadOptions load() {
+        return load;
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.load;
+
+import org.HdrHistogram.Histogram;
+import org.example.api.Endpoint;
+import org.example.metrics.LatencyRegistry;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/**
+ * Сообщения между координатором и агентами распределённого прогона поверх TCP.
+ * <p>
+ * Каждое сообщение — байт типа и тело в формате {@link DataOutputStream}:
+ * <pre>
+ *   HELLO     агент → координатор   версия протокола, имя агента
+ *   PLAN      координатор → агент   аргументы {@link LoadOptions}, задержка старта, период интервалов
+ *   INTERVAL  агент → координатор   фаза, гистограммы за интервал (шаблон, код, вид, сжатая гистограмма)
+ *   DONE      агент → координатор   длительность измерения, итоговые счётчики эндпоинтов и первое
+ *                                   несоответствие контракту
+ *   FAILED    агент → координатор   причина ошибки
+ * </pre>
+ * Гистограммы передаются в сжатом формате HdrHistogram без потери точности: сумма интервалов всех агентов
+ * совпадает с гистограммой, которую записал бы один генератор с той же нагрузкой.
+ */
+final class ClusterProtocol {
+    static final int VERSION = 2;
+
+    static final byte HELLO = 1;
+    static final byte PLAN = 2;
+    static final byte INTERVAL = 3;
+    static final byte DONE = 4;
+    static final byte FAILED = 5;
+
+    private ClusterProtocol() {
+    }
+
+    record Plan(List<String> args, long startDelayMillis, long intervalMillis) {
+    }
+
+    record Done(long elapsedNanos, Map<Endpoint, long[]> counters, Map<Endpoint, String> firstInvalid) {
+    }
+
+    static void writeHello(DataOutputStream out, String name) throws IOException {
+        out.writeByte(HELLO);
+        out.writeInt(VERSION);
+        out.writeUTF(name);
+        out.flush();
+    }
+
+    /**
+     * @return имя агента
+     */
+    static String readHello(DataInputStream in) throws IOException {
+        expect(in, HELLO);
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported agent protocol version " + version + ", expected " + VERSION);
+        }
+        return in.readUTF();
+    }
+
+    static void writePlan(DataOutputStream out, Plan plan) throws IOException {
+        out.writeByte(PLAN);
+        out.writeInt(plan.args().size());
+        for (String arg : plan.args()) {
+            out.writeUTF(arg);
+        }
+        out.writeLong(plan.startDelayMillis());
+        out.writeLong(plan.intervalMillis());
+        out.flush();
+    }
+
+    static Plan readPlan(DataInputStream in) throws IOException {
+        expect(in, PLAN);
+        int size = in.readInt();
+        List<String> args = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            args.add(in.readUTF());
+        }
+        return new Plan(args, in.readLong(), in.readLong());
+    }
+
+    static void writeInterval(DataOutputStream out, LoadRunner.Interval interval) throws IOException {
+        List<LatencyRegistry.Snapshot> corrected = nonEmpty(interval.latencies());
+        List<LatencyRegistry.Snapshot> raw = nonEmpty(interval.rawLatencies());
+        out.writeByte(INTERVAL);
+        out.writeBoolean(interval.measuring());
+        out.writeInt(corrected.size() + raw.size());
+        for (LatencyRegistry.Snapshot snapshot : corrected) {
+            writeSnapshot(out, snapshot, false);
+        }
+        for (LatencyRegistry.Snapshot snapshot : raw) {
+            writeSnapshot(out, snapshot, true);
+        }
+        out.flush();
+    }
+
+    private static List<LatencyRegistry.Snapshot> nonEmpty(List<LatencyRegistry.Snapshot> snapshots) {
+        List<LatencyRegistry.Snapshot> result = new ArrayList<>(snapshots.size());
+        for (LatencyRegistry.Snapshot snapshot : snapshots) {
+            if (snapshot.histogram().getTotalCount() > 0) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+
+    private static void writeSnapshot(DataOutputStream out, LatencyRegistry.Snapshot snapshot, boolean raw)
+            throws IOException {
+        Histogram histogram = snapshot.histogram();
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer, Deflater.BEST_SPEED);
+        out.writeUTF(snapshot.template());
+        out.writeShort(snapshot.status());
+        out.writeBoolean(raw);
+        out.writeInt(length);
+        out.write(buffer.array(), 0, length);
+    }
+
+    /**
+     * Читает тело сообщения {@code INTERVAL} (байт типа уже прочитан).
+     */
+    static LoadRunner.Interval readInterval(DataInputStream in) throws IOException {
+        boolean measuring = in.readBoolean();
+        int count = in.readInt();
+        List<LatencyRegistry.Snapshot> corrected = new ArrayList<>();
+        List<LatencyRegistry.Snapshot> raw = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String template = in.readUTF();
+            int status = in.readShort();
+            boolean isRaw = in.readBoolean();
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            Histogram histogram;
+            try {
+                histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes),
+                        LatencyRegistry.MAX_LATENCY_MICROS);
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted histogram for " + template + " " + status, e);
+            }
+            (isRaw ? raw : corrected).add(new LatencyRegistry.Snapshot(template, status, histogram));
+        }
+        return new LoadRunner.Interval(measuring, corrected, raw);
+    }
+
+    static void writeDone(DataOutputStream out, LoadRunner.Report report) throws IOException {
+        out.writeByte(DONE);
+        out.writeLong(report.elapsedNanos());
+        out.writeInt(report.stats().size());
+        for (Map.Entry<Endpoint, EndpointStats> entry : report.stats().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            out.writeUTF(entry.getKey().name());
+            out.writeLong(stats.requests());
+            out.writeLong(stats.errors());
+            out.writeLong(stats.failures());
+            out.writeLong(stats.dropped());
+            out.writeLong(stats.invalid());
+            String firstInvalid = stats.firstInvalid();
+            out.writeUTF(firstInvalid == null ? "" : truncate(firstInvalid));
+        }
+        out.flush();
+    }
+
+    /**
+     * Читает тело сообщения {@code DONE}; счётчики — {@code requests, errors, failures, dropped, invalid}.
+     */
+    static Done readDone(DataInputStream in) throws IOException {
+        long elapsed = in.readLong();
+        int size = in.readInt();
+        Map<Endpoint, long[]> counters = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, String> firstInvalid = new EnumMap<>(Endpoint.class);
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = Endpoint.valueOf(in.readUTF());
+            counters.put(endpoint, new long[]{in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+                    in.readLong()});
+            String failure = in.readUTF();
+            if (!failure.isEmpty()) {
+                firstInvalid.put(endpoint, failure);
+            }
+        }
+        return new Done(elapsed, counters, firstInvalid);
+    }
+
+    static void writeFailed(DataOutputStream out, String reason) throws IOException {
+        out.writeByte(FAILED);
+        out.writeUTF(truncate(reason));
+        out.flush();
+    }
+
+    private static String truncate(String text) {
+        return text.length() > 1000 ? text.substring(0, 1000) : text;
+    }
+
+    private static void expect(DataInputStream in, byte type) throws IOException {
+        byte actual = in.readByte();
+        if (actual != type) {
+            throw new IOException("Unexpected message type " + actual + ", expected " + type);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Кольцевой буфер последних созданных объявлений. Из него берутся идентификаторы
+ * для запросов чтения, поэтому память не растёт с длительностью прогона.
+ */
+class CreatedItems {
+    record Item(String id, long sellerId) {
+    }
+
+    private final AtomicReferenceArray<Item> ring;
+    private final AtomicLong cursor = new AtomicLong();
+
+    CreatedItems(int capacity) {
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(Item item) {
+        long index = cursor.getAndIncrement();
+        ring.set((int) (index % ring.length()), item);
+    }
+
+    /**
+     * Случайное объявление из буфера или {@code null}, если ещё ничего не создано.
+     */
+    Item random() {
+        long size = Math.min(cursor.get(), ring.length());
+        if (size == 0) {
+            return null;
+        }
+        return ring.get(ThreadLocalRandom.current().nextInt((int) size));
+    }
+
+    boolean isEmpty() {
+        return cursor.get() == 0;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.load;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчики одного эндпоинта. Задержки пишутся отдельно в {@link org.example.metrics.LatencyRegistry}.
+ * Запись потокобезопасна и не блокирует.
+ */
+class EndpointStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final AtomicReference<String> firstInvalid = new AtomicReference<>();
+
+    void recordResponse(int status) {
+        requests.increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Запрос не получил ответа: таймаут, разрыв соединения и т.п.
+     */
+    void recordFailure() {
+        requests.increment();
+        failures.increment();
+    }
+
+    /**
+     * Запрос не отправлен, потому что достигнут предел одновременных запросов.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Ответ не соответствует контракту эндпоинта; запоминается описание первого такого ответа.
+     */
+    void recordInvalid(String failure) {
+        invalid.increment();
+        firstInvalid.compareAndSet(null, failure);
+    }
+
+    /**
+     * Добавляет итоговые счётчики агента распределённого прогона.
+     */
+    void add(long requests, long errors, long failures, long dropped, long invalid, String firstInvalid) {
+        this.requests.add(requests);
+        this.errors.add(errors);
+        this.failures.add(failures);
+        this.dropped.add(dropped);
+        this.invalid.add(invalid);
+        if (firstInvalid != null) {
+            this.firstInvalid.compareAndSet(null, firstInvalid);
+        }
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long invalid() {
+        return invalid.sum();
+    }
+
+    /**
+     * Описание первого ответа, не прошедшего проверку, или {@code null}.
+     */
+    String firstInvalid() {
+        return firstInvalid.get();
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.load;
+
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Агент распределённого прогона: получает от {@link LoadCoordinator} свою долю нагрузки, выполняет её
+ * обычным {@link LoadRunner} и раз в интервал отправляет координатору гистограммы задержек за интервал.
+ * <pre>
+ *   --coordinator=host:7070     адрес координатора
+ *   --name=agent-1              имя в журнале координатора; по умолчанию имя хоста и pid
+ *   --connect-timeout=60s       сколько ждать координатора, если он ещё не запущен
+ * </pre>
+ */
+public class LoadAgent {
+    private final String host;
+    private final int port;
+    private final String name;
+    private final Duration connectTimeout;
+
+    public LoadAgent(String host, int port, String name, Duration connectTimeout) {
+        this.host = host;
+        this.port = port;
+        this.name = name;
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Точка входа режима {@code agent}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Args parsed = new Args();
+        Options.parse(args, (option, value) -> {
+            switch (option) {
+                case "coordinator" -> parsed.coordinator = value;
+                case "name" -> parsed.name = value;
+                case "connect-timeout" -> parsed.connectTimeout = Config.parseDuration(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        String coordinator = parsed.coordinator;
+        if (coordinator == null || coordinator.lastIndexOf(':') < 0) {
+            throw new IllegalArgumentException("--coordinator=host:port is required");
+        }
+        int colon = coordinator.lastIndexOf(':');
+        new LoadAgent(coordinator.substring(0, colon), Integer.parseInt(coordinator.substring(colon + 1)),
+                parsed.name, parsed.connectTimeout).run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            ClusterProtocol.writeHello(out, name);
+            ClusterProtocol.Plan plan = ClusterProtocol.readPlan(in);
+            long startAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plan.startDelayMillis());
+            System.out.printf("Agent %s: %s%n", name, String.join(" ", plan.args()));
+
+            ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "agent-intervals");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                LoadOptions options = LoadOptions.parse(plan.args().toArray(new String[0]));
+                LoadRunner runner = new LoadRunner(options, options.baseUrl());
+                long now;
+                while ((now = System.nanoTime()) < startAt) {
+                    LockSupport.parkNanos(startAt - now);
+                }
+                AtomicReference<RuntimeException> lost = new AtomicReference<>();
+                sender.scheduleAtFixedRate(() -> {
+                    try {
+                        sendInterval(out, runner);
+                    } catch (RuntimeException e) {
+                        // Исключение отменяет все следующие запуски задачи, поэтому прогон останавливается:
+                        // иначе агент гнал бы нагрузку до конца, а координатор её уже не видит
+                        lost.compareAndSet(null, e);
+                        runner.stop();
+                        throw e;
+                    }
+                }, plan.intervalMillis(), plan.intervalMillis(), TimeUnit.MILLISECONDS);
+                LoadRunner.Report report = runner.run();
+                if (lost.get() != null) {
+                    throw lost.get();
+                }
+                sender.shutdown();
+                sender.awaitTermination(10, TimeUnit.SECONDS);
+                // Запросы завершены, поэтому последний интервал содержит все оставшиеся задержки
+                sendInterval(out, runner);
+                synchronized (out) {
+                    ClusterProtocol.writeDone(out, report);
+                }
+                System.out.printf("Agent %s: done%n", name);
+                if (report.journal() != null) {
+                    System.out.printf("Agent %s: %s%n", name, report.journal());
+                }
+            } catch (RuntimeException e) {
+                try {
+                    synchronized (out) {
+                        ClusterProtocol.writeFailed(out, e.toString());
+                    }
+                } catch (IOException failed) {
+                    // Соединение с координатором уже потеряно
+                    e.addSuppressed(failed);
+                }
+                throw e;
+            } finally {
+                sender.shutdownNow();
+            }
+        }
+    }
+
+    private static void sendInterval(DataOutputStream out, LoadRunner runner) {
+        LoadRunner.Interval interval = runner.drainInterval();
+        synchronized (out) {
+            try {
+                ClusterProtocol.writeInterval(out, interval);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Coordinator connection lost", e);
+            }
+        }
+    }
+
+    private static final class Args {
+        String coordinator;
+        String name = System.getenv().getOrDefault("HOSTNAME", "agent") + "-" + ProcessHandle.current().pid();
+        Duration connectTimeout = Duration.ofSeconds(60);
+    }
+
+    /**
+     * Подключается к координатору; в контейнерах агенты могут стартовать раньше него, поэтому попытки
+     * повторяются до {@code --connect-timeout}.
+     */
+    private Socket connect() throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + connectTimeout.toNanos();
+        while (true) {
+            try {
+                return new Socket(host, port);
+            } catch (ConnectException e) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw e;
+                }
+                Thread.sleep(500);
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package org.example.load;
+
+import org.HdrHistogram.Histogram;
+import org.example.api.Endpoint;
+import org.example.metrics.LatencyRegistry;
+import org.example.stub.ItemServiceStub;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Координатор распределённого прогона: делит общую интенсивность между агентами ({@link LoadAgent}),
+ * одновременно запускает их и складывает присланные интервальные гистограммы в один отчёт.
+ * <p>
+ * Гистограммы HdrHistogram складываются без потери точности, поэтому перцентили отчёта те же, что дал бы
+ * один генератор с суммарной нагрузкой, при любом числе агентов. В отчёт попадают только интервалы фазы
+ * измерения. Если хотя бы один агент не дошёл до конца, отчёт не строится: частичный результат выглядел бы
+ * как корректный при меньшей нагрузке.
+ * <p>
+ * При {@code --target=stub} координатор сам запускает заглушку, и агенты обращаются к ней.
+ */
+public class LoadCoordinator {
+    /** Запас времени между рассылкой планов и стартом, чтобы агенты начали одновременно. */
+    private static final long START_DELAY_MILLIS = 1000;
+
+    private final ClusterOptions options;
+    private final String serviceUrl;
+    private final Map<Endpoint, EndpointStats> stats = LoadRunner.newStats();
+    private final MergedLatencies latencies = new MergedLatencies();
+    private final MergedLatencies rawLatencies = new MergedLatencies();
+    private final MergedLatencies progress = new MergedLatencies();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger finished = new AtomicInteger();
+    private long elapsedNanos;
+
+    public LoadCoordinator(ClusterOptions options, String serviceUrl) {
+        this.options = options;
+        this.serviceUrl = serviceUrl;
+    }
+
+    /**
+     * Точка входа режима {@code coordinate}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ClusterOptions options = ClusterOptions.parse(args);
+        LoadRunner.Report report;
+        if (options.load().useStub()) {
+            try (ItemServiceStub stub = ItemServiceStub.start()) {
+                report = new LoadCoordinator(options, stub.baseUrl()).run();
+            }
+        } else {
+            report = new LoadCoordinator(options, options.load().baseUrl()).run();
+        }
+        report.print(System.out);
+        report.write(options.load().reportFile());
+        System.out.println("Latency report written to " + options.load().reportFile().toAbsolutePath());
+    }
+
+    public LoadRunner.Report run() throws IOException, InterruptedException {
+        List<Process> processes = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        ScheduledExecutorService printer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coordinator-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocket server = new ServerSocket(options.port())) {
+            if (options.spawn()) {
+                processes.addAll(spawn(server.getLocalPort()));
+            }
+            System.out.printf("Waiting for %d agents on port %d%n", options.agents(), server.getLocalPort());
+            List<Connection> agents = accept(server);
+            try {
+                List<String> args = options.load().agentArgs(options.agents(), serviceUrl);
+                ClusterProtocol.Plan plan = new ClusterProtocol.Plan(args, START_DELAY_MILLIS,
+                        options.interval().toMillis());
+                for (Connection agent : agents) {
+                    ClusterProtocol.writePlan(agent.out(), plan);
+                }
+                System.out.printf("Started %d agents at %.1f rps each: %s%n", agents.size(),
+                        options.load().rps() / options.agents(), String.join(" ", args));
+
+                long started = System.nanoTime();
+                long intervalMillis = options.interval().toMillis();
+                printer.scheduleAtFixedRate(() -> printProgress(started), intervalMillis, intervalMillis,
+                        TimeUnit.MILLISECONDS);
+                for (Connection agent : agents) {
+                    Thread reader = new Thread(() -> read(agent), "coordinator-" + agent.name());
+                    reader.start();
+                    readers.add(reader);
+                }
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+            } finally {
+                for (Connection agent : agents) {
+                    agent.socket().close();
+                }
+            }
+        } finally {
+            printer.shutdownNow();
+            for (Process process : processes) {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Distributed run failed, no report produced:\n  "
+                    + String.join("\n  ", failures));
+        }
+        return new LoadRunner.Report(stats, latencies.snapshots(), rawLatencies.snapshots(), elapsedNanos);
+    }
+
+    /**
+     * Ждёт подключения всех агентов; {@code HELLO} читается сразу, чтобы отсеять чужие соединения.
+     */
+    private List<Connection> accept(ServerSocket server) throws IOException {
+        List<Connection> agents = new ArrayList<>();
+        long deadline = System.nanoTime() + options.agentTimeout().toNanos();
+        while (agents.size() < options.agents()) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            server.setSoTimeout((int) Math.min(remainingMillis, Integer.MAX_VALUE));
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketTimeoutException e) {
+                break;
+            }
+            try {
+                socket.setSoTimeout((int) options.agentTimeout().toMillis());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                String name = ClusterProtocol.readHello(in);
+                // Пока идёт прогон, агент молчит не дольше интервала; десять интервалов — явный сбой
+                socket.setSoTimeout((int) Math.max(options.interval().toMillis() * 10, 30_000));
+                agents.add(new Connection(name, socket, in,
+                        new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))));
+                System.out.printf("Agent %s connected from %s (%d/%d)%n", name, socket.getRemoteSocketAddress(),
+                        agents.size(), options.agents());
+            } catch (IOException e) {
+                System.err.println("Rejected connection from " + socket.getRemoteSocketAddress() + ": "
+                        + e.getMessage());
+                socket.close();
+            }
+        }
+        if (agents.size() < options.agents()) {
+            for (Connection agent : agents) {
+                agent.socket().close();
+            }
+            throw new IllegalStateException("Only " + agents.size() + " of " + options.agents()
+                    + " agents connected within " + options.agentTimeout());
+        }
+        return agents;
+    }
+
+    private record Connection(String name, Socket socket, DataInputStream in, DataOutputStream out) {
+    }
+
+    private void read(Connection agent) {
+        try {
+            DataInputStream in = agent.in();
+            while (true) {
+                byte type = in.readByte();
+                switch (type) {
+                    case ClusterProtocol.INTERVAL -> {
+                        LoadRunner.Interval interval = ClusterProtocol.readInterval(in);
+                        if (interval.measuring()) {
+                            latencies.add(interval.latencies());
+                            rawLatencies.add(interval.rawLatencies());
+                            progress.add(interval.latencies());
+                        }
+                    }
+                    case ClusterProtocol.DONE -> {
+                        done(ClusterProtocol.readDone(in));
+                        return;
+                    }
+                    case ClusterProtocol.FAILED -> {
+                        failures.add(agent.name() + ": " + in.readUTF());
+                        return;
+                    }
+                    default -> throw new IOException("Unexpected message type " + type);
+                }
+            }
+        } catch (IOException e) {
+            failures.add(agent.name() + ": connection lost (" + e.getMessage() + ")");
+        }
+    }
+
+    private synchronized void done(ClusterProtocol.Done done) {
+        done.counters().forEach((endpoint, counters) ->
+                stats.get(endpoint).add(counters[0], counters[1], counters[2], counters[3], counters[4],
+                        done.firstInvalid().get(endpoint)));
+        // Агенты стартуют одновременно, поэтому длительность прогона — длительность самого долгого из них
+        elapsedNanos = Math.max(elapsedNanos, done.elapsedNanos());
+        finished.incrementAndGet();
+    }
+
+    private void printProgress(long started) {
+        Histogram interval = progress.drainTotal();
+        if (interval.getTotalCount() == 0) {
+            return;
+        }
+        double seconds = options.interval().toNanos() / 1e9;
+        System.out.printf("%7.1fs %9d req %10.1f rps   p50 %8.2f   p99 %8.2f   max %8.2f ms   done %d/%d%n",
+                (System.nanoTime() - started) / 1e9, interval.getTotalCount(), interval.getTotalCount() / seconds,
+                interval.getValueAtPercentile(50) / 1000.0, interval.getValueAtPercentile(99) / 1000.0,
+                interval.getMaxValue() / 1000.0, finished.get(), options.agents());
+    }
+
+    /**
+     * Локальные агенты: та же JVM и classpath, настройки {@code -Dapi.*} и {@code -Dhttp.*} передаются как есть.
+     */
+    private List<Process> spawn(int port) throws IOException {
+        List<Process> processes = new ArrayList<>();
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        for (int i = 1; i <= options.agents(); i++) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            System.getProperties().stringPropertyNames().stream()
+                    .filter(key -> key.startsWith("api.") || key.startsWith("http."))
+                    .sorted()
+                    .forEach(key -> command.add("-D" + key + "=" + System.getProperty(key)));
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), LoadAgent.class.getName(),
+                    "--coordinator=127.0.0.1:" + port, "--name=local-" + i));
+            processes.add(new ProcessBuilder(command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start());
+        }
+        return processes;
+    }
+
+    /**
+     * Сумма гистограмм всех агентов по парам шаблон/код.
+     */
+    private static final class MergedLatencies {
+        private final Map<String, Map<Integer, Histogram>> byTemplate = new TreeMap<>();
+
+        synchronized void add(List<LatencyRegistry.Snapshot> snapshots) {
+            for (LatencyRegistry.Snapshot snapshot : snapshots) {
+                byTemplate.computeIfAbsent(snapshot.template(), t -> new TreeMap<>())
+                        .computeIfAbsent(snapshot.status(), s -> LatencyRegistry.newHistogram())
+                        .add(snapshot.histogram());
+            }
+        }
+
+        synchronized List<LatencyRegistry.Snapshot> snapshots() {
+            List<LatencyRegistry.Snapshot> result = new ArrayList<>();
+            byTemplate.forEach((template, statuses) -> statuses.forEach((status, histogram) ->
+                    result.add(new LatencyRegistry.Snapshot(template, status, histogram.copy()))));
+            return result;
+        }
+
+        /**
+         * Все гистограммы одной суммой; накопленное сбрасывается.
+         */
+        synchronized Histogram drainTotal() {
+            Histogram total = LatencyRegistry.newHistogram();
+            byTemplate.values().forEach(statuses -> statuses.values().forEach(total::add));
+            byTemplate.clear();
+            return total;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.load;
+
+import org.example.api.Endpoint;
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Параметры нагрузочного прогона. Разбираются из аргументов вида {@code --rps=1000};
+ * значения по умолчанию для интенсивности, прогрева, длительности и цели берутся из {@link Config}.
+ * <pre>
+ *   --rps=1000                               целевая интенсивность, запросов в секунду
+ *   --duration=30s                           длительность измерения
+ *   --warmup=5s                              прогрев, результаты не учитываются
+ *   --mix=create:1,get:4,statistic:2,list:1  доли эндпоинтов в потоке запросов
+ *   --max-in-flight=20000                    предел одновременных запросов
+ *   --target=stub|remote                     встроенная заглушка или реальный сервис
+ *   --base-url=https://...                   адрес сервиса для target=remote
+ *   --report=load-report.json                JSON-отчёт по задержкам
+ *   --id-pool=id-pool.csv                    объявления для запросов чтения из пула {@code App seed}
+ *   --validate=true                          проверять каждый ответ на соответствие контракту эндпоинта
+ * </pre>
+ */
+public class LoadOptions {
+    private double rps = Config.get().rps();
+    private Duration duration = Config.get().duration();
+    private Duration warmup = Config.get().warmup();
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private int maxInFlight = 20_000;
+    private String target = Config.get().target();
+    private String baseUrl = Config.get().baseUrl();
+    private Path reportFile = Path.of("load-report.json");
+    private Path idPool;
+    private boolean validate = true;
+
+    public LoadOptions() {
+        mix.put(Endpoint.CREATE_ITEM, 1);
+        mix.put(Endpoint.GET_ITEM, 4);
+        mix.put(Endpoint.GET_STATISTIC, 2);
+        mix.put(Endpoint.LIST_BY_SELLER, 1);
+    }
+
+    public static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        Options.parse(args, (name, value) -> {
+            switch (name) {
+                case "rps" -> options.rps = Double.parseDouble(value);
+                case "duration" -> options.duration = Config.parseDuration(value);
+                case "warmup" -> options.warmup = Config.parseDuration(value);
+                case "mix" -> options.parseMix(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "target" -> options.target = value;
+                case "base-url" -> options.baseUrl = value;
+                case "report" -> options.reportFile = Path.of(value);
+                case "id-pool" -> options.idPool = Path.of(value);
+                case "validate" -> options.validate = Boolean.parseBoolean(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (options.rps <= 0) {
+            throw new IllegalArgumentException("--rps must be positive");
+        }
+        if (options.maxInFlight <= 0) {
+            throw new IllegalArgumentException("--max-in-flight must be positive");
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight in --mix, got: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in --mix: " + part);
+            }
+            mix.put(endpointByAlias(pair[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("--mix must contain a positive weight");
+        }
+    }
+
+    /**
+     * Аргументы для одного из {@code agents} агентов распределённого прогона: равная доля интенсивности
+     * и предела одновременных запросов, остальные параметры — как у координатора. Длительности передаются
+     * явно, чтобы агент не подставил умолчания из своих настроек.
+     */
+    List<String> agentArgs(int agents, String serviceUrl) {
+        List<String> args = new ArrayList<>();
+        args.add("--rps=" + rps / agents);
+        args.add("--duration=" + duration.toMillis() + "ms");
+        args.add("--warmup=" + warmup.toMillis() + "ms");
+        StringJoiner mixValue = new StringJoiner(",");
+        mix.forEach((endpoint, weight) -> mixValue.add(alias(endpoint) + ":" + weight));
+        args.add("--mix=" + mixValue);
+        args.add("--max-in-flight=" + Math.max(1, (maxInFlight + agents - 1) / agents));
+        args.add("--target=remote");
+        args.add("--base-url=" + serviceUrl);
+        if (idPool != null) {
+            args.add("--id-pool=" + idPool);
+        }
+        args.add("--validate=" + validate);
+        return args;
+    }
+
+    private static String alias(Endpoint endpoint) {
+        return switch (endpoint) {
+            case CREATE_ITEM -> "create";
+            case GET_ITEM -> "get";
+            case GET_STATISTIC -> "statistic";
+            case LIST_BY_SELLER -> "list";
+        };
+    }
+
+    private static Endpoint endpointByAlias(String alias) {
+        return switch (alias.toLowerCase(Locale.ROOT)) {
+            case "create" -> Endpoint.CREATE_ITEM;
+            case "get" -> Endpoint.GET_ITEM;
+            case "statistic" -> Endpoint.GET_STATISTIC;
+            case "list" -> Endpoint.LIST_BY_SELLER;
+            default -> throw new IllegalArgumentException("Unknown endpoint in --mix: " + alias);
+        };
+    }
+
+    public double rps() {
+        return rps;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Duration warmup() {
+        return warmup;
+    }
+
+    public Map<Endpoint, Integer> mix() {
+        return mix;
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public boolean useStub() {
+        return "stub".equalsIgnoreCase(target);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Path reportFile() {
+        return reportFile;
+    }
+
+    /**
+     * Пул идентификаторов от {@code App seed} или {@code null}.
+     */
+    public Path idPool() {
+        return idPool;
+    }
+
+    /**
+     * Проверять ли ответы {@link org.example.validation.ResponseValidator}; несоответствия — колонка
+     * {@code invalid} отчёта.
+     */
+    public boolean validate() {
+        return validate;
+    }
+}
@@ -0,0 +1,457 @@
+package org.example.load;
+
+import org.HdrHistogram.Histogram;
+import org.example.api.Endpoint;
+import org.example.client.HttpClients;
+import org.example.config.Config;
+import org.example.journal.Journal;
+import org.example.journal.JournalEntry;
+import org.example.metrics.HttpRequestEvent;
+import org.example.metrics.LatencyRegistry;
+import org.example.metrics.LatencyReport;
+import org.example.metrics.LiveMetrics;
+import org.example.metrics.MetricsServer;
+import org.example.model.CreateItemRequest;
+import org.example.model.CreateItemResponse;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.example.seed.IdPool;
+import org.example.stub.ItemServiceStub;
+import org.example.validation.ResponseValidator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Генератор нагрузки по открытой модели: запросы отправляются по расписанию с заданной
+ * интенсивностью и не ждут ответов на предыдущие. Отправка асинхронная
+ * ({@link HttpClient#sendAsync}), поэтому один поток-планировщик держит десятки тысяч
+ * одновременных запросов.
+ * <p>
+ * Каждый ответ проверяется на соответствие контракту эндпоинта ({@link ResponseValidator}); проверка почти
+ * ничего не выделяет и не искажает задержки, отключается {@code --validate=false}.
+ */
+public class LoadRunner {
+    private static final int PRIMING_ITEMS = 16;
+    private static final int CREATED_ITEMS_CAPACITY = 4096;
+    private static final Duration REQUEST_TIMEOUT = Config.get().requestTimeout();
+    private static final long DROPPED_LATENCY_NANOS = REQUEST_TIMEOUT.toNanos();
+
+    private final LoadOptions options;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Semaphore inFlight;
+    private final CreatedItems createdItems = new CreatedItems(CREATED_ITEMS_CAPACITY);
+    private final Endpoint[] mixTable;
+    private final LiveMetrics live = new LiveMetrics();
+    private Journal journal;
+
+    private volatile Phase phase = new Phase(false);
+    private volatile boolean stopped;
+
+    /**
+     * Счётчики и задержки одной фазы прогона. Меняются одной ссылкой, поэтому запрос и снимок интервала
+     * всегда видят счётчики и реестры одной и той же фазы.
+     */
+    private static final class Phase {
+        final boolean measuring;
+        final Map<Endpoint, EndpointStats> stats = newStats();
+        /** Задержки от запланированного момента отправки — с поправкой на координированное пропускание. */
+        final LatencyRegistry latencies = new LatencyRegistry();
+        /** Задержки от фактической отправки; расходятся с исправленными, когда отправка отстаёт от расписания. */
+        final LatencyRegistry rawLatencies = new LatencyRegistry();
+
+        Phase(boolean measuring) {
+            this.measuring = measuring;
+        }
+    }
+
+    /**
+     * Гистограммы за интервал с предыдущего снимка; {@code measuring} — данные фазы измерения, а не прогрева.
+     */
+    record Interval(boolean measuring, List<LatencyRegistry.Snapshot> latencies,
+                    List<LatencyRegistry.Snapshot> rawLatencies) {
+    }
+
+    public LoadRunner(LoadOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.mixTable = buildMixTable(options.mix());
+        this.client = HttpClients.create(baseUrl);
+        live.gauge("api_client_in_flight", "Requests sent and not yet completed.",
+                () -> options.maxInFlight() - inFlight.availablePermits());
+        live.gauge("api_client_target_rps", "Target request rate of this generator.", options::rps);
+        live.gauge("api_client_measuring", "1 during the measured phase, 0 while priming and warming up.",
+                () -> phase.measuring ? 1 : 0);
+    }
+
+    /**
+     * Точка входа режима {@code load}.
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        LoadOptions options = LoadOptions.parse(args);
+        Report report;
+        if (options.useStub()) {
+            try (ItemServiceStub stub = ItemServiceStub.start()) {
+                report = new LoadRunner(options, stub.baseUrl()).run();
+            }
+        } else {
+            report = new LoadRunner(options, options.baseUrl()).run();
+        }
+        report.print(System.out);
+        report.write(options.reportFile());
+        System.out.println("Latency report written to " + options.reportFile().toAbsolutePath());
+    }
+
+    /**
+     * Прогон целиком; пока он идёт, при заданном {@code metrics.port} доступен {@code /metrics},
+     * а при {@code api.journal=on} обмены пишутся в журнал.
+     */
+    public Report run() throws InterruptedException {
+        journal = Journal.open();
+        Report report;
+        try (MetricsServer ignored = MetricsServer.start(live); Journal opened = journal) {
+            report = runPhases();
+        }
+        if (journal != null) {
+            report.journal = journal.toString();
+        }
+        return report;
+    }
+
+    private Report runPhases() throws InterruptedException {
+        prime();
+        if (!options.warmup().isZero()) {
+            runPhase(options.warmup());
+        }
+        Phase measured = new Phase(true);
+        phase = measured;
+        long started = System.nanoTime();
+        runPhase(options.duration());
+        long elapsed = System.nanoTime() - started;
+        return new Report(measured.stats, measured.latencies.snapshot(), measured.rawLatencies.snapshot(), elapsed);
+    }
+
+    /**
+     * Прерывает прогон из другого потока: новые запросы больше не отправляются, {@link #run()} дожидается
+     * начатых и возвращает отчёт по уже выполненной части.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Снимок гистограмм текущей фазы за интервал; вызывается из другого потока во время {@link #run()}.
+     */
+    Interval drainInterval() {
+        Phase current = phase;
+        return new Interval(current.measuring, current.latencies.intervalSnapshot(),
+                current.rawLatencies.intervalSnapshot());
+    }
+
+    /**
+     * Загружает объявления из пула или создаёт несколько заранее, чтобы запросам чтения было что читать.
+     */
+    private void prime() throws InterruptedException {
+        if (options.idPool() != null) {
+            // Пул может быть огромным: в кольцевой буфер попадает только его начало
+            try (Stream<IdPool.Entry> pool = IdPool.stream(options.idPool())) {
+                pool.limit(CREATED_ITEMS_CAPACITY)
+                        .forEach(entry -> createdItems.add(new CreatedItems.Item(entry.id(), entry.sellerId())));
+            }
+            if (!createdItems.isEmpty()) {
+                return;
+            }
+        }
+        for (int i = 0; i < PRIMING_ITEMS; i++) {
+            send(Endpoint.CREATE_ITEM, System.nanoTime());
+        }
+        awaitInFlight();
+        if (createdItems.isEmpty()) {
+            throw new IllegalStateException("Failed to create seed items at " + baseUrl);
+        }
+    }
+
+    private void runPhase(Duration duration) throws InterruptedException {
+        double periodNanos = TimeUnit.SECONDS.toNanos(1) / options.rps();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * periodNanos);
+            if (scheduled >= end || stopped) {
+                break;
+            }
+            // Расписание не сдвигается: отставший планировщик отправляет просроченные запросы сразу
+            long now;
+            while ((now = System.nanoTime()) < scheduled) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            send(mixTable[ThreadLocalRandom.current().nextInt(mixTable.length)], scheduled);
+        }
+        awaitInFlight();
+    }
+
+    /**
+     * Отправляет запрос, запланированный на момент {@code intendedStart}. Если планировщик отстал
+     * (пауза GC, перегруженный процессор), время ожидания отправки входит в исправленную задержку:
+     * пользователь, пришедший по расписанию, ждал бы столько же.
+     */
+    private void send(Endpoint endpoint, long intendedStart) {
+        CreatedItems.Item item = null;
+        if (endpoint != Endpoint.CREATE_ITEM) {
+            item = createdItems.random();
+            if (item == null) {
+                endpoint = Endpoint.CREATE_ITEM; // Читать пока нечего — создаём объявление
+            }
+        }
+        Phase current = phase;
+        EndpointStats endpointStats = current.stats.get(endpoint);
+        LatencyRegistry latencyRegistry = current.latencies;
+        LatencyRegistry rawRegistry = current.rawLatencies;
+        String template = endpoint.template();
+        if (!inFlight.tryAcquire()) {
+            // Запрос по расписанию был, ответа не было: без записи простой сервиса выпал бы из задержек.
+            // Ждать дольше таймаута запрос бы не стал, поэтому слот пишется как неответ за REQUEST_TIMEOUT
+            endpointStats.recordDropped();
+            latencyRegistry.record(template, LatencyRegistry.NO_RESPONSE, DROPPED_LATENCY_NANOS);
+            live.record(template, LatencyRegistry.NO_RESPONSE, DROPPED_LATENCY_NANOS);
+            return;
+        }
+        long sellerId = item != null ? item.sellerId()
+                : ThreadLocalRandom.current().nextLong(100_000_000L, Integer.MAX_VALUE);
+        boolean create = endpoint == Endpoint.CREATE_ITEM;
+        byte[] requestBody = create ? createItemBody(sellerId) : null;
+        HttpRequest request = buildRequest(endpoint, item, sellerId, requestBody);
+        Journal journal = this.journal;
+        ResponseValidator validator = options.validate() ? ResponseValidator.forEndpoint(endpoint) : null;
+        HttpRequestEvent event = HttpRequestEvent.begin(endpoint);
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    long completedAt = System.nanoTime();
+                    try {
+                        int status = error != null ? LatencyRegistry.NO_RESPONSE : response.statusCode();
+                        latencyRegistry.record(template, status, completedAt - intendedStart);
+                        rawRegistry.record(template, status, completedAt - sentAt);
+                        live.record(template, status, completedAt - intendedStart);
+                        if (event != null) {
+                            event.finish(status, completedAt - intendedStart);
+                        }
+                        if (error != null) {
+                            endpointStats.recordFailure();
+                            journal(journal, request, requestBody, status, null, completedAt - intendedStart,
+                                    error.toString());
+                            return;
+                        }
+                        endpointStats.recordResponse(response.statusCode());
+                        String failure = validator == null ? null
+                                : validator.validate(response.statusCode(), response.body());
+                        if (failure != null) {
+                            endpointStats.recordInvalid(failure);
+                        }
+                        if (create && response.statusCode() == 200) {
+                            rememberCreated(response.body(), sellerId);
+                        }
+                        journal(journal, request, requestBody, status, response.body(),
+                                completedAt - intendedStart, failure);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    /**
+     * Передаёт обмен в журнал; тела — только у неуспешных и у выборки успешных, см. {@link Journal}.
+     */
+    private static void journal(Journal journal, HttpRequest request, byte[] requestBody, int status,
+                                byte[] responseBody, long latencyNanos, String failure) {
+        if (journal == null) {
+            return;
+        }
+        boolean bodies = journal.captureBodies(failure != null || status >= 500);
+        journal.offer(new JournalEntry(System.currentTimeMillis(), request.method(), request.uri().getRawPath(),
+                status, latencyNanos, bodies ? requestBody : null, bodies ? responseBody : null, failure));
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, CreatedItems.Item item, long sellerId, byte[] body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        return switch (endpoint) {
+            case CREATE_ITEM -> builder.uri(uri(endpoint.path(null)))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            case GET_ITEM, GET_STATISTIC -> builder.uri(uri(endpoint.path(item.id()))).GET().build();
+            case LIST_BY_SELLER -> builder.uri(uri(endpoint.path(sellerId))).GET().build();
+        };
+    }
+
+    private static byte[] createItemBody(long sellerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Json.write(new CreateItemRequest(sellerId, "load-" + random.nextInt(1_000_000),
+                random.nextInt(1, 100_000),
+                new Statistics(random.nextInt(100), random.nextInt(100), random.nextInt(1000))));
+    }
+
+    private void rememberCreated(byte[] response, long sellerId) {
+        String id = CreateItemResponse.scanItemId(response);
+        if (id != null) {
+            createdItems.add(new CreatedItems.Item(id, sellerId));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        if (!inFlight.tryAcquire(options.maxInFlight(), REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Requests still in flight after timeout");
+        }
+        inFlight.release(options.maxInFlight());
+    }
+
+    /**
+     * Таблица выбора эндпоинта: каждый эндпоинт встречается столько раз, каков его вес.
+     */
+    private static Endpoint[] buildMixTable(Map<Endpoint, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Endpoint[] table = new Endpoint[total];
+        int i = 0;
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            for (int j = 0; j < entry.getValue(); j++) {
+                table[i++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    static Map<Endpoint, EndpointStats> newStats() {
+        Map<Endpoint, EndpointStats> map = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            map.put(endpoint, new EndpointStats());
+        }
+        return map;
+    }
+
+    /**
+     * Итоги прогона по каждому эндпоинту.
+     */
+    public static class Report {
+        private final Map<Endpoint, EndpointStats> stats;
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Histogram> rawLatencies = new EnumMap<>(Endpoint.class);
+        private final List<LatencyRegistry.Snapshot> byStatus;
+        private final List<LatencyRegistry.Snapshot> rawByStatus;
+        private final long elapsedNanos;
+        private String journal;
+
+        /**
+         * @param corrected гистограммы по парам шаблон/код — с одного генератора или сложенные с нескольких агентов
+         */
+        Report(Map<Endpoint, EndpointStats> stats, List<LatencyRegistry.Snapshot> corrected,
+               List<LatencyRegistry.Snapshot> raw, long elapsedNanos) {
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+            this.byStatus = corrected;
+            this.rawByStatus = raw;
+            stats.keySet().forEach(endpoint -> {
+                latencies.put(endpoint, merged(corrected, endpoint.template()));
+                rawLatencies.put(endpoint, merged(raw, endpoint.template()));
+            });
+        }
+
+        private static Histogram merged(List<LatencyRegistry.Snapshot> snapshots, String template) {
+            Histogram merged = LatencyRegistry.newHistogram();
+            for (LatencyRegistry.Snapshot snapshot : snapshots) {
+                if (snapshot.template().equals(template)) {
+                    merged.add(snapshot.histogram());
+                }
+            }
+            return merged;
+        }
+
+        Map<Endpoint, EndpointStats> stats() {
+            return stats;
+        }
+
+        long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Итог журнала обменов прогона или {@code null}, если журнал выключен.
+         */
+        String journal() {
+            return journal;
+        }
+
+        List<LatencyRegistry.Snapshot> latencies() {
+            return byStatus;
+        }
+
+        /**
+         * Пишет JSON-отчёт с разбивкой задержек по эндпоинтам и кодам ответа:
+         * {@code series} — исправленные задержки, {@code rawSeries} — от фактической отправки.
+         */
+        public void write(Path file) throws IOException {
+            LatencyReport.writeJson(byStatus, rawByStatus, file);
+        }
+
+        public void print(PrintStream out) {
+            double seconds = elapsedNanos / 1e9;
+            out.printf("%-24s %10s %10s %8s %8s %8s %8s %9s %9s %9s %9s %9s %11s%n", "endpoint", "requests",
+                    "rps", "errors", "failed", "dropped", "invalid", "p50,ms", "p90,ms", "p99,ms", "p99.9,ms",
+                    "max,ms", "raw p99,ms");
+            for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+                EndpointStats s = entry.getValue();
+                Histogram h = latencies.get(entry.getKey());
+                out.printf("%-24s %10d %10.1f %8d %8d %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                        entry.getKey().template(), s.requests(), s.requests() / seconds,
+                        s.errors(), s.failures(), s.dropped(), s.invalid(),
+                        millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                        millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                        millis(h.getMaxValue()), millis(rawLatencies.get(entry.getKey()).getValueAtPercentile(99)));
+            }
+            for (EndpointStats s : stats.values()) {
+                if (s.firstInvalid() != null) {
+                    out.println("First invalid response: " + s.firstInvalid());
+                }
+            }
+            out.println();
+            out.println("Corrected for coordinated omission (from intended send time):");
+            if (stats.values().stream().anyMatch(s -> s.dropped() > 0)) {
+                out.println("Dropped requests are counted as no response (status 0) at the request timeout, "
+                        + REQUEST_TIMEOUT.toMillis() + " ms");
+            }
+            LatencyReport.print(byStatus, out);
+            out.println();
+            out.println("Raw (from actual send time):");
+            LatencyReport.print(rawByStatus, out);
+            if (journal != null) {
+                out.println();
+                out.println(journal);
+            }
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
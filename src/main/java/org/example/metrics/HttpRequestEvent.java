@@ -0,0 +1,73 @@
+package org.example.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.example.api.Endpoint;
+
+/**
+ * Событие JDK Flight Recorder на каждый запрос нагрузочного прогона. В записи JFR запросы ложатся на одну шкалу
+ * времени с паузами GC, работой JIT и блокировками потоков, поэтому всплеск задержки можно сразу сопоставить
+ * с тем, что в этот момент происходило в JVM генератора.
+ * <pre>
+ *   java -XX:StartFlightRecording=filename=run.jfr,settings=profile ... org.example.App load ...
+ *   jfr print --events org.example.HttpRequest run.jfr
+ * </pre>
+ * Длительность события — от фактической отправки до ответа; {@code latency} — исправленная задержка
+ * от запланированного момента, как в отчёте (в режиме {@code soak} запросы не планируются, и они совпадают).
+ * Вне записи событие не создаётся.
+ */
+@Name("org.example.HttpRequest")
+@Label("HTTP Request")
+@Category({"API Tests", "HTTP"})
+@Description("Request sent by a load or soak run")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(HttpRequestEvent.class);
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Path template, e.g. /api/1/item/{id}")
+    public String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status, 0 if no response was received")
+    public int status;
+
+    @Label("Latency")
+    @Description("From the scheduled send time, corrected for coordinated omission")
+    @Timespan(Timespan.NANOSECONDS)
+    public long latency;
+
+    /**
+     * Начинает событие в момент отправки запроса.
+     *
+     * @return событие или {@code null}, если запись JFR не идёт или событие в ней выключено
+     */
+    public static HttpRequestEvent begin(Endpoint endpoint) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.method = endpoint.method();
+        event.endpoint = endpoint.template();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Завершает событие; может вызываться из другого потока, чем {@link #begin(Endpoint)}.
+     */
+    public void finish(int status, long latencyNanos) {
+        this.status = status;
+        this.latency = latencyNanos;
+        commit();
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Гистограммы задержек HTTP-запросов по шаблону эндпоинта и коду ответа.
+ * <p>
+ * Запись не выделяет память после первого запроса с данной парой шаблон/код:
+ * поиск идёт по строке шаблона и индексу кода в массиве, значение пишется в {@link Recorder}.
+ * Код {@code 0} означает, что ответ не получен (таймаут, разрыв соединения).
+ */
+public class LatencyRegistry {
+    /** Верхняя граница гистограмм — 1 час в микросекундах. */
+    public static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+    public static final int SIGNIFICANT_DIGITS = 3;
+    public static final int NO_RESPONSE = 0;
+
+    private static final int MAX_STATUS = 600;
+
+    private final Map<String, AtomicReferenceArray<Series>> byTemplate = new ConcurrentHashMap<>();
+    private final boolean cumulative;
+
+    public LatencyRegistry() {
+        this(true);
+    }
+
+    private LatencyRegistry(boolean cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Реестр только с интервальными гистограммами — для многочасовых прогонов, где нужен
+     * временной ряд, а не итог. {@link #snapshot()} и {@link #merged} в нём недоступны.
+     */
+    public static LatencyRegistry intervalOnly() {
+        return new LatencyRegistry(false);
+    }
+
+    /**
+     * Записывает задержку запроса в наносекундах.
+     */
+    public void record(String template, int status, long latencyNanos) {
+        series(template, status).record(latencyNanos);
+    }
+
+    private Series series(String template, int status) {
+        AtomicReferenceArray<Series> statuses = byTemplate.get(template);
+        if (statuses == null) {
+            statuses = byTemplate.computeIfAbsent(template, t -> new AtomicReferenceArray<>(MAX_STATUS));
+        }
+        int index = status > 0 && status < MAX_STATUS ? status : NO_RESPONSE;
+        Series series = statuses.get(index);
+        if (series == null) {
+            statuses.compareAndSet(index, null, new Series(template, index, cumulative));
+            series = statuses.get(index);
+        }
+        return series;
+    }
+
+    /**
+     * Накопленные с начала прогона гистограммы по всем парам шаблон/код.
+     */
+    public List<Snapshot> snapshot() {
+        requireCumulative();
+        List<Snapshot> result = new ArrayList<>();
+        forEachSeries(series -> result.add(new Snapshot(series.template, series.status, series.cumulative())));
+        return result;
+    }
+
+    /**
+     * Гистограммы за интервал с предыдущего вызова этого метода. Накопленные данные не сбрасываются.
+     */
+    public List<Snapshot> intervalSnapshot() {
+        List<Snapshot> result = new ArrayList<>();
+        forEachSeries(series -> result.add(new Snapshot(series.template, series.status, series.drainInterval())));
+        return result;
+    }
+
+    /**
+     * Накопленная гистограмма шаблона по всем кодам ответа.
+     */
+    public Histogram merged(String template) {
+        requireCumulative();
+        Histogram merged = newHistogram();
+        AtomicReferenceArray<Series> statuses = byTemplate.get(template);
+        if (statuses != null) {
+            for (int i = 0; i < statuses.length(); i++) {
+                Series series = statuses.get(i);
+                if (series != null) {
+                    merged.add(series.cumulative());
+                }
+            }
+        }
+        return merged;
+    }
+
+    private void requireCumulative() {
+        if (!cumulative) {
+            throw new IllegalStateException("Registry keeps interval histograms only");
+        }
+    }
+
+    private void forEachSeries(Consumer<Series> action) {
+        byTemplate.keySet().stream().sorted().forEach(template -> {
+            AtomicReferenceArray<Series> statuses = byTemplate.get(template);
+            for (int i = 0; i < statuses.length(); i++) {
+                Series series = statuses.get(i);
+                if (series != null) {
+                    action.accept(series);
+                }
+            }
+        });
+    }
+
+    public static Histogram newHistogram() {
+        return new Histogram(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Гистограмма одной пары шаблон/код. Значения хранятся в микросекундах.
+     */
+    public record Snapshot(String template, int status, Histogram histogram) {
+    }
+
+    private static final class Series {
+        private final String template;
+        private final int status;
+        private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram cumulative;
+        private final Histogram interval = newHistogram();
+        private Histogram recycled;
+
+        Series(String template, int status, boolean keepCumulative) {
+            this.template = template;
+            this.status = status;
+            this.cumulative = keepCumulative ? newHistogram() : null;
+        }
+
+        void record(long latencyNanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            recorder.recordValue(Math.max(0, Math.min(micros, MAX_LATENCY_MICROS)));
+        }
+
+        synchronized Histogram drainInterval() {
+            pull();
+            Histogram result = interval.copy();
+            interval.reset();
+            return result;
+        }
+
+        synchronized Histogram cumulative() {
+            pull();
+            return cumulative.copy();
+        }
+
+        private void pull() {
+            recycled = recorder.getIntervalHistogram(recycled);
+            if (cumulative != null) {
+                cumulative.add(recycled);
+            }
+            interval.add(recycled);
+        }
+    }
+}
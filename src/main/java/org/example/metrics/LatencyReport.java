@@ -0,0 +1,95 @@
+package org.example.metrics;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Отчёт по задержкам: таблица в консоль и JSON-файл для CI.
+ * Значения в отчёте — миллисекунды.
+ */
+public final class LatencyReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    private LatencyReport() {
+    }
+
+    public static void print(List<LatencyRegistry.Snapshot> snapshots, PrintStream out) {
+        out.printf("%-26s %6s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "status", "count", "p50,ms", "p90,ms", "p99,ms", "p99.9,ms", "max,ms");
+        for (LatencyRegistry.Snapshot snapshot : snapshots) {
+            Histogram h = snapshot.histogram();
+            out.printf("%-26s %6s %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    snapshot.template(), statusLabel(snapshot.status()), h.getTotalCount(),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue()));
+        }
+    }
+
+    /**
+     * Пишет отчёт в JSON: {@code {"generatedAt": ..., "unit": "ms", "series": [{"endpoint", "status", "count",
+     * "mean", "p50", "p90", "p99", "p99.9", "max"}]}}.
+     */
+    public static void writeJson(List<LatencyRegistry.Snapshot> snapshots, Path file) throws IOException {
+        writeJson(snapshots, null, file);
+    }
+
+    /**
+     * То же с дополнительным массивом {@code rawSeries} — задержками без поправки на координированное
+     * пропускание (от фактической отправки, а не от запланированного времени).
+     */
+    public static void writeJson(List<LatencyRegistry.Snapshot> snapshots, List<LatencyRegistry.Snapshot> raw,
+                                 Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (JsonGenerator gen = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            gen.useDefaultPrettyPrinter();
+            gen.writeStartObject();
+            gen.writeStringField("generatedAt", Instant.now().toString());
+            gen.writeStringField("unit", "ms");
+            writeSeries(gen, "series", snapshots);
+            if (raw != null) {
+                writeSeries(gen, "rawSeries", raw);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeSeries(JsonGenerator gen, String name, List<LatencyRegistry.Snapshot> snapshots)
+            throws IOException {
+        gen.writeArrayFieldStart(name);
+        for (LatencyRegistry.Snapshot snapshot : snapshots) {
+            Histogram h = snapshot.histogram();
+            gen.writeStartObject();
+            gen.writeStringField("endpoint", snapshot.template());
+            gen.writeNumberField("status", snapshot.status());
+            gen.writeNumberField("count", h.getTotalCount());
+            gen.writeNumberField("mean", millis(h.getMean()));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                gen.writeNumberField(PERCENTILE_NAMES[i], millis(h.getValueAtPercentile(PERCENTILES[i])));
+            }
+            gen.writeNumberField("max", millis(h.getMaxValue()));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static String statusLabel(int status) {
+        return status == LatencyRegistry.NO_RESPONSE ? "none" : Integer.toString(status);
+    }
+
+    private static double millis(double micros) {
+        return micros / 1000.0;
+    }
+}
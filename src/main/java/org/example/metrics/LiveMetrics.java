@@ -0,0 +1,227 @@
+package org.example.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Живые метрики нагрузочного прогона для {@link MetricsServer}: счётчики запросов по эндпоинту и коду ответа,
+ * сумма задержек и перцентили задержек за последнее окно, плюс произвольные датчики режима
+ * (например, число запросов в полёте).
+ * <p>
+ * В отличие от {@link LatencyRegistry}, который копит данные для итогового отчёта, здесь счётчики только растут
+ * с начала процесса, а перцентили считаются по окну: {@link #rotate()} раз в окно закрывает текущую
+ * гистограмму, и {@code /metrics} отдаёт последнюю закрытую. Запись не блокирует и после первого запроса
+ * пары шаблон/код не выделяет память.
+ */
+public final class LiveMetrics {
+    public static final long DEFAULT_WINDOW_SECONDS = 10;
+
+    private static final int MAX_STATUS = 600;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, Series> byTemplate = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final long windowSeconds;
+
+    public LiveMetrics() {
+        this(DEFAULT_WINDOW_SECONDS);
+    }
+
+    /**
+     * @param windowSeconds окно перцентилей; {@link MetricsServer} вызывает {@link #rotate()} с этим периодом
+     */
+    public LiveMetrics(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public long windowSeconds() {
+        return windowSeconds;
+    }
+
+    /**
+     * Записывает завершённый запрос; {@link LatencyRegistry#NO_RESPONSE} — ответ не получен.
+     */
+    public void record(String template, int status, long latencyNanos) {
+        Series series = byTemplate.get(template);
+        if (series == null) {
+            series = byTemplate.computeIfAbsent(template, t -> new Series());
+        }
+        series.record(status, latencyNanos);
+    }
+
+    /**
+     * Датчик, значение которого читается при каждом запросе {@code /metrics}.
+     */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    /**
+     * Закрывает окно перцентилей.
+     */
+    public void rotate() {
+        byTemplate.values().forEach(Series::rotate);
+    }
+
+    /**
+     * Текстовый формат экспозиции Prometheus 0.0.4.
+     */
+    public void writePrometheus(StringBuilder out) {
+        out.append("# HELP api_client_requests_total Requests completed by the load generator.\n");
+        out.append("# TYPE api_client_requests_total counter\n");
+        byTemplate.forEach((template, series) -> {
+            for (int status = 0; status < MAX_STATUS; status++) {
+                Counters counters = series.statuses.get(status);
+                if (counters != null) {
+                    out.append("api_client_requests_total{endpoint=\"").append(escape(template))
+                            .append("\",status=\"").append(status).append("\"} ")
+                            .append(counters.count.sum()).append('\n');
+                }
+            }
+        });
+
+        out.append("# HELP api_client_request_duration_seconds Client-side latency; quantiles over the last ")
+                .append(windowSeconds).append("s window, sum and count since start.\n");
+        out.append("# TYPE api_client_request_duration_seconds summary\n");
+        byTemplate.forEach((template, series) -> {
+            String endpoint = "endpoint=\"" + escape(template) + "\"";
+            Histogram window = series.lastWindow();
+            for (double quantile : QUANTILES) {
+                out.append("api_client_request_duration_seconds{").append(endpoint).append(",quantile=\"")
+                        .append(quantile).append("\"} ");
+                appendSeconds(out, window.getTotalCount() == 0 ? Double.NaN
+                        : window.getValueAtPercentile(quantile * 100));
+                out.append('\n');
+            }
+            long count = 0;
+            long sumMicros = 0;
+            for (int status = 0; status < MAX_STATUS; status++) {
+                Counters counters = series.statuses.get(status);
+                if (counters != null) {
+                    count += counters.count.sum();
+                    sumMicros += counters.sumMicros.sum();
+                }
+            }
+            out.append("api_client_request_duration_seconds_sum{").append(endpoint).append("} ");
+            appendSeconds(out, sumMicros);
+            out.append('\n');
+            out.append("api_client_request_duration_seconds_count{").append(endpoint).append("} ")
+                    .append(count).append('\n');
+        });
+
+        out.append("# HELP api_client_request_duration_max_seconds Maximum latency over the last window.\n");
+        out.append("# TYPE api_client_request_duration_max_seconds gauge\n");
+        byTemplate.forEach((template, series) -> {
+            Histogram window = series.lastWindow();
+            out.append("api_client_request_duration_max_seconds{endpoint=\"").append(escape(template))
+                    .append("\"} ");
+            appendSeconds(out, window.getTotalCount() == 0 ? Double.NaN : window.getMaxValue());
+            out.append('\n');
+        });
+
+        gauges.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            out.append("# HELP ").append(entry.getKey()).append(' ').append(entry.getValue().help()).append('\n');
+            out.append("# TYPE ").append(entry.getKey()).append(" gauge\n");
+            out.append(entry.getKey()).append(' ')
+                    .append(format(entry.getValue().value().getAsDouble())).append('\n');
+        });
+
+        writeJvm(out);
+    }
+
+    /**
+     * Паузы GC и занятая куча: чтобы сопоставлять всплески задержек с работой сборщика на графике,
+     * не снимая отдельный экспортер JVM.
+     */
+    private static void writeJvm(StringBuilder out) {
+        out.append("# HELP jvm_gc_collection_seconds_total Time spent in garbage collection.\n");
+        out.append("# TYPE jvm_gc_collection_seconds_total counter\n");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            out.append("jvm_gc_collection_seconds_total{gc=\"").append(escape(gc.getName())).append("\"} ")
+                    .append(format(gc.getCollectionTime() / 1000.0)).append('\n');
+        }
+        out.append("# HELP jvm_gc_collections_total Garbage collections.\n");
+        out.append("# TYPE jvm_gc_collections_total counter\n");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            out.append("jvm_gc_collections_total{gc=\"").append(escape(gc.getName())).append("\"} ")
+                    .append(gc.getCollectionCount()).append('\n');
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        out.append("# HELP jvm_memory_heap_used_bytes Used heap.\n");
+        out.append("# TYPE jvm_memory_heap_used_bytes gauge\n");
+        out.append("jvm_memory_heap_used_bytes ").append(memory.getHeapMemoryUsage().getUsed()).append('\n');
+    }
+
+    private static void appendSeconds(StringBuilder out, double micros) {
+        out.append(Double.isNaN(micros) ? "NaN" : format(micros / 1e6));
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value) : String.format(Locale.ROOT, "%.6g", value);
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private record Gauge(String help, DoubleSupplier value) {
+    }
+
+    private static final class Counters {
+        final LongAdder count = new LongAdder();
+        final LongAdder sumMicros = new LongAdder();
+    }
+
+    private static final class Series {
+        final AtomicReferenceArray<Counters> statuses = new AtomicReferenceArray<>(MAX_STATUS);
+        final Recorder recorder =
+                new Recorder(LatencyRegistry.MAX_LATENCY_MICROS, LatencyRegistry.SIGNIFICANT_DIGITS);
+        /** Последнее закрытое окно; {@code null}, пока окно не закрывалось. */
+        private Histogram window;
+        private Histogram recycled;
+
+        void record(int status, long latencyNanos) {
+            int index = status > 0 && status < MAX_STATUS ? status : LatencyRegistry.NO_RESPONSE;
+            Counters counters = statuses.get(index);
+            if (counters == null) {
+                statuses.compareAndSet(index, null, new Counters());
+                counters = statuses.get(index);
+            }
+            long micros = Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+                    LatencyRegistry.MAX_LATENCY_MICROS));
+            counters.count.increment();
+            counters.sumMicros.add(micros);
+            recorder.recordValue(micros);
+        }
+
+        /**
+         * Recorder принимает на переиспользование только свои же гистограммы, поэтому по кругу ходят две
+         * полученные от него.
+         */
+        synchronized void rotate() {
+            Histogram closed = recorder.getIntervalHistogram(recycled);
+            recycled = window;
+            window = closed;
+        }
+
+        synchronized Histogram lastWindow() {
+            return window == null ? LatencyRegistry.newHistogram() : window.copy();
+        }
+    }
+}
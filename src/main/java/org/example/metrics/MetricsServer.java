@@ -0,0 +1,109 @@
+package org.example.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.Config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP-эндпоинт {@code /metrics} в текстовом формате Prometheus для живых метрик прогона ({@link LiveMetrics}).
+ * <p>
+ * Запускается только при заданном {@code metrics.port}; по умолчанию слушает loopback-интерфейс
+ * ({@code metrics.host}). Занятый порт не прерывает прогон: например, у нескольких агентов на одном хосте
+ * эндпоинт поднимет только первый, остальные предупредят об этом в журнале.
+ */
+public final class MetricsServer implements AutoCloseable {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService rotation;
+
+    private MetricsServer(HttpServer server, ExecutorService executor, ScheduledExecutorService rotation) {
+        this.server = server;
+        this.executor = executor;
+        this.rotation = rotation;
+    }
+
+    /**
+     * Запускает эндпоинт по настройкам {@link Config}.
+     *
+     * @return сервер или {@code null}, если эндпоинт выключен или порт занят
+     */
+    public static MetricsServer start(LiveMetrics metrics) {
+        Config config = Config.get();
+        if (config.metricsPort() < 0) {
+            return null;
+        }
+        try {
+            MetricsServer server = start(metrics, config.metricsHost(), config.metricsPort());
+            System.out.println("Metrics at http://" + config.metricsHost() + ":" + server.port() + "/metrics");
+            return server;
+        } catch (BindException e) {
+            System.err.println("Metrics endpoint disabled: " + config.metricsHost() + ":" + config.metricsPort()
+                    + " is in use");
+            return null;
+        } catch (IOException e) {
+            System.err.println("Metrics endpoint disabled: " + e);
+            return null;
+        }
+    }
+
+    public static MetricsServer start(LiveMetrics metrics, String host, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(host, port), 16);
+        server.createContext("/metrics", exchange -> handle(exchange, metrics));
+        // Один поток: сбор метрик дешёвый, а Prometheus опрашивает раз в несколько секунд
+        ExecutorService executor = Executors.newSingleThreadExecutor(
+                runnable -> daemon(runnable, "metrics-http"));
+        server.setExecutor(executor);
+        ScheduledExecutorService rotation = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "metrics-window"));
+        rotation.scheduleAtFixedRate(metrics::rotate, metrics.windowSeconds(), metrics.windowSeconds(),
+                TimeUnit.SECONDS);
+        server.start();
+        return new MetricsServer(server, executor, rotation);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private static void handle(HttpExchange exchange, LiveMetrics metrics) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(4096);
+            metrics.writePrometheus(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public void close() {
+        rotation.shutdownNow();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Тело {@code POST /api/1/item}. Статистика необязательна и не попадает в JSON, если равна {@code null}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateItemRequest(@JsonProperty("sellerID") long sellerId, String name, long price,
+                                Statistics statistics) {
+
+    public CreateItemRequest(long sellerId, String name, long price) {
+        this(sellerId, name, price, null);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Ответ на успешное создание: {@code {"status": "Сохранили объявление - <id>"}}.
+ * Сервис не возвращает идентификатор отдельным полем, поэтому он извлекается из статуса.
+ */
+public record CreateItemResponse(String status) {
+    public static final String SAVED_PREFIX = "Сохранили объявление - ";
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * Идентификатор из сырого тела ответа поиском префикса, без разбора JSON: путь нагрузочного режима,
+     * где тело разбирается на каждый созданный объект.
+     *
+     * @return идентификатор или {@code null}, если тело не похоже на ответ об успешном создании
+     */
+    public static String scanItemId(byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        int at = text.indexOf(SAVED_PREFIX);
+        if (at < 0 || text.length() < at + SAVED_PREFIX.length() + UUID_LENGTH) {
+            return null;
+        }
+        return text.substring(at + SAVED_PREFIX.length(), at + SAVED_PREFIX.length() + UUID_LENGTH);
+    }
+
+    /**
+     * Идентификатор созданного объявления.
+     *
+     * @throws IllegalStateException если статус не содержит идентификатора
+     */
+    public String itemId() {
+        if (status == null || !status.startsWith(SAVED_PREFIX) || status.length() == SAVED_PREFIX.length()) {
+            throw new IllegalStateException("Unexpected create status: " + status);
+        }
+        return status.substring(SAVED_PREFIX.length()).trim();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.model;
+
+import java.util.Map;
+
+/**
+ * Ошибка сервиса: {@code {"result": {"message": "...", "messages": {}}, "status": "400"}}.
+ * <p>
+ * {@code messages} бывает пустым объектом (400) или {@code null} (404), это различие проверяют тесты.
+ */
+public record ErrorResponse(Result result, String status) {
+    /**
+     * {@code status} отказа в создании объявления: вместо кода ответа — текст, {@code message} пустой.
+     */
+    public static final String NO_ITEM_PASSED = "не передан объект - объявление";
+
+    public record Result(String message, Map<String, Object> messages) {
+    }
+}
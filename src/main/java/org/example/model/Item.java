@@ -0,0 +1,11 @@
+package org.example.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Объявление в ответах {@code GET /api/1/item/{id}} и {@code GET /api/1/{sellerID}/item}.
+ * Порядок полей совпадает с ответом сервиса.
+ */
+@JsonPropertyOrder({"createdAt", "id", "name", "price", "sellerId", "statistics"})
+public record Item(String id, long sellerId, String name, long price, String createdAt, Statistics statistics) {
+}
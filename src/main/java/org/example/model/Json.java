@@ -0,0 +1,112 @@
+package org.example.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Сериализация модели через заранее собранные {@link ObjectReader}/{@link ObjectWriter}.
+ * <p>
+ * Читатели и писатели неизменяемы и потокобезопасны: сериализаторы для каждого типа
+ * строятся один раз при загрузке класса, а {@link BlackbirdModule} заменяет рефлексивный
+ * доступ к полям и конструкторам сгенерированными лямбдами. Неизвестные поля в ответах
+ * игнорируются, чтобы новые поля сервиса не ломали тесты и нагрузку. Исключение — конверт ошибки
+ * ({@link #readError}): его тесты сверяют целиком, поэтому лишнее или недостающее поле — ошибка разбора.
+ */
+public final class Json {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private static final ObjectWriter CREATE_REQUEST_WRITER = MAPPER.writerFor(CreateItemRequest.class);
+    private static final ObjectWriter ITEM_WRITER = MAPPER.writerFor(Item.class);
+    private static final ObjectWriter STATISTICS_WRITER = MAPPER.writerFor(Statistics.class);
+
+    private static final ObjectReader ITEM_READER = MAPPER.readerFor(Item.class);
+    private static final ObjectReader STATISTICS_READER = MAPPER.readerFor(Statistics.class);
+    private static final ObjectReader ITEMS_READER = MAPPER.readerFor(new TypeReference<List<Item>>() { });
+    private static final ObjectReader CREATE_RESPONSE_READER = MAPPER.readerFor(CreateItemResponse.class);
+    private static final ObjectReader ERROR_READER = MAPPER.readerFor(ErrorResponse.class)
+            .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                    DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES);
+
+    private Json() {
+    }
+
+    public static byte[] write(CreateItemRequest request) {
+        try {
+            return CREATE_REQUEST_WRITER.writeValueAsBytes(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(JsonGenerator gen, Item item) throws IOException {
+        ITEM_WRITER.writeValue(gen, item);
+    }
+
+    public static void write(JsonGenerator gen, Statistics statistics) throws IOException {
+        STATISTICS_WRITER.writeValue(gen, statistics);
+    }
+
+    public static Item readItem(JsonNode node) throws IOException {
+        return ITEM_READER.readValue(node);
+    }
+
+    /**
+     * Читает одно объявление, начиная с текущего токена {@code START_OBJECT}; после чтения парсер стоит
+     * на его {@code END_OBJECT}. Используется для поэлементного чтения больших массивов.
+     */
+    public static Item readItem(JsonParser parser) throws IOException {
+        return ITEM_READER.readValue(parser);
+    }
+
+    /**
+     * Потоковый парсер поверх тела ответа; тело читается по мере продвижения парсера.
+     */
+    public static JsonParser parser(InputStream body) throws IOException {
+        return MAPPER.getFactory().createParser(body);
+    }
+
+    public static Statistics readStatistics(JsonNode node) throws IOException {
+        return STATISTICS_READER.readValue(node);
+    }
+
+    /**
+     * Ответ {@code GET /api/1/item/{id}} или {@code GET /api/1/{sellerID}/item}.
+     */
+    public static List<Item> readItems(byte[] body) {
+        return read(ITEMS_READER, body);
+    }
+
+    public static CreateItemResponse readCreateItemResponse(byte[] body) {
+        return read(CREATE_RESPONSE_READER, body);
+    }
+
+    /**
+     * Строгий разбор конверта ошибки: лишнее поле или отсутствующий ключ, в том числе {@code messages},
+     * дают {@link UncheckedIOException}; явный {@code "messages": null} допустим.
+     */
+    public static ErrorResponse readError(byte[] body) {
+        return read(ERROR_READER, body);
+    }
+
+    private static <T> T read(ObjectReader reader, byte[] body) {
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse " + reader.getValueType() + " from response", e);
+        }
+    }
+}
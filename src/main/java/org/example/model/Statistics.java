@@ -0,0 +1,8 @@
+package org.example.model;
+
+/**
+ * Счётчики объявления: {@code {"contacts": 3, "likes": 123, "viewCount": 12}}.
+ */
+public record Statistics(long contacts, long likes, long viewCount) {
+    public static final Statistics EMPTY = new Statistics(0, 0, 0);
+}
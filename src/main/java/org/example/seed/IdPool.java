@@ -0,0 +1,121 @@
+package org.example.seed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+
+/**
+ * Файл с идентификаторами созданных объявлений: по строке {@code <id>,<sellerId>} на объявление.
+ * <p>
+ * Файл читается потоково ({@link #stream}), поэтому пул на миллионы объявлений
+ * не загружается в память целиком.
+ */
+public final class IdPool {
+
+    public record Entry(String id, long sellerId) {
+    }
+
+    private IdPool() {
+    }
+
+    /**
+     * Ленивый поток записей пула. Поток держит файл открытым и должен быть закрыт.
+     */
+    public static Stream<Entry> stream(Path file) {
+        try {
+            return Files.lines(file, StandardCharsets.UTF_8)
+                    .filter(line -> !line.isBlank())
+                    .map(IdPool::parse);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read id pool " + file, e);
+        }
+    }
+
+    private static Entry parse(String line) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Expected <id>,<sellerId> in id pool, got: " + line);
+        }
+        return new Entry(line.substring(0, comma), Long.parseLong(line.substring(comma + 1).trim()));
+    }
+
+    /**
+     * Единственный писатель пула: записи из любых потоков попадают в ограниченную очередь,
+     * а в файл их пишет один фоновый поток. Если диск не успевает, {@link #add} блокирует
+     * отправителей — это и есть обратное давление на создание объявлений.
+     */
+    public static final class Writer implements AutoCloseable {
+        private static final Entry END = new Entry("", 0);
+
+        private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(8192);
+        private final BufferedWriter out;
+        private final Thread thread;
+        private volatile IOException failure;
+
+        public Writer(Path file) throws IOException {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            this.thread = new Thread(this::drain, "id-pool-writer");
+            thread.start();
+        }
+
+        public void add(Entry entry) throws InterruptedException {
+            if (failure != null) {
+                throw new UncheckedIOException("Id pool writer failed", failure);
+            }
+            queue.put(entry);
+        }
+
+        private void drain() {
+            try {
+                // После ошибки записи очередь всё равно разбирается, чтобы не заблокировать отправителей
+                for (Entry entry = queue.take(); entry != END; entry = queue.take()) {
+                    if (failure == null) {
+                        write(entry);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+
+        private void write(Entry entry) {
+            try {
+                out.write(entry.id());
+                out.write(',');
+                out.write(Long.toString(entry.sellerId()));
+                out.newLine();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Дописывает всё, что осталось в очереди, и закрывает файл.
+         */
+        @Override
+        public void close() throws IOException, InterruptedException {
+            queue.put(END);
+            thread.join();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
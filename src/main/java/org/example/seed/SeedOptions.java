@@ -0,0 +1,96 @@
+package org.example.seed;
+
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Параметры наполнения сервиса объявлениями. Разбираются из аргументов вида {@code --items=100000}.
+ * <pre>
+ *   --items=10000              сколько объявлений создать
+ *   --sellers=1                между сколькими продавцами их распределить
+ *   --seller-id=123456789      sellerID первого продавца, остальные идут подряд; по умолчанию случайный
+ *   --concurrency=64           предел одновременных запросов
+ *   --retries=3                повторы при сетевой ошибке, 429 и 5xx
+ *   --target=stub|remote       встроенная заглушка или реальный сервис
+ *   --base-url=https://...     адрес сервиса для target=remote
+ *   --output=id-pool.csv       файл пула идентификаторов
+ * </pre>
+ */
+public class SeedOptions {
+    private long items = 10_000;
+    private int sellers = 1;
+    private long firstSellerId = ThreadLocalRandom.current().nextLong(100_000_000L, Integer.MAX_VALUE);
+    private int concurrency = 64;
+    private int retries = 3;
+    private String target = Config.get().target();
+    private String baseUrl = Config.get().baseUrl();
+    private Path output = Path.of("id-pool.csv");
+
+    public static SeedOptions parse(String[] args) {
+        SeedOptions options = new SeedOptions();
+        Options.parse(args, (name, value) -> {
+            switch (name) {
+                case "items" -> options.items = Long.parseLong(value);
+                case "sellers" -> options.sellers = Integer.parseInt(value);
+                case "seller-id" -> options.firstSellerId = Long.parseLong(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "retries" -> options.retries = Integer.parseInt(value);
+                case "target" -> options.target = value;
+                case "base-url" -> options.baseUrl = value;
+                case "output" -> options.output = Path.of(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (options.items <= 0) {
+            throw new IllegalArgumentException("--items must be positive");
+        }
+        if (options.sellers <= 0) {
+            throw new IllegalArgumentException("--sellers must be positive");
+        }
+        if (options.concurrency <= 0) {
+            throw new IllegalArgumentException("--concurrency must be positive");
+        }
+        if (options.retries < 0) {
+            throw new IllegalArgumentException("--retries must not be negative");
+        }
+        return options;
+    }
+
+    public long items() {
+        return items;
+    }
+
+    public int sellers() {
+        return sellers;
+    }
+
+    public long firstSellerId() {
+        return firstSellerId;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public int retries() {
+        return retries;
+    }
+
+    public boolean useStub() {
+        return "stub".equalsIgnoreCase(target);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Path output() {
+        return output;
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.seed;
+
+import org.example.api.Endpoint;
+import org.example.client.HttpClients;
+import org.example.config.Config;
+import org.example.model.CreateItemRequest;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.example.stub.ItemServiceStub;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Массовое создание объявлений для проверок на реалистичных объёмах данных.
+ * <p>
+ * Запросы отправляются асинхронно, одновременно — не больше {@code --concurrency}: следующий запрос
+ * ждёт освобождения разрешения, поэтому медленный сервис сам снижает темп наполнения.
+ * Сетевые ошибки, 429 и 5xx повторяются с экспоненциальной задержкой. Идентификаторы созданных
+ * объявлений пишутся в пул ({@link IdPool}), из которого их потоково читают тесты и {@code App load --id-pool}.
+ */
+public class Seeder {
+    private static final Duration REQUEST_TIMEOUT = Config.get().requestTimeout();
+    private static final long BASE_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final SeedOptions options;
+    private final HttpClient client;
+    private final URI createUri;
+    private final Semaphore permits;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private volatile String lastError;
+
+    public Seeder(SeedOptions options, String baseUrl) {
+        this.options = options;
+        this.client = HttpClients.create(baseUrl);
+        this.createUri = URI.create(baseUrl + Endpoint.CREATE_ITEM.path(null));
+        this.permits = new Semaphore(options.concurrency());
+    }
+
+    /**
+     * Точка входа режима {@code seed}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        SeedOptions options = SeedOptions.parse(args);
+        Result result;
+        if (options.useStub()) {
+            // Данные заглушки живут до конца процесса: режим полезен для проверки самого конвейера
+            try (ItemServiceStub stub = ItemServiceStub.start()) {
+                result = new Seeder(options, stub.baseUrl()).run();
+            }
+        } else {
+            result = new Seeder(options, options.baseUrl()).run();
+        }
+        result.print(System.out);
+        System.out.println("Id pool written to " + options.output().toAbsolutePath());
+        if (result.failed() > 0) {
+            System.exit(1);
+        }
+    }
+
+    public Result run() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seed-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(() -> System.out.printf("created %d/%d, failed %d, retried %d%n",
+                created.sum(), options.items(), failed.sum(), retried.sum()), 5, 5, TimeUnit.SECONDS);
+        try (IdPool.Writer pool = new IdPool.Writer(options.output())) {
+            for (long i = 0; i < options.items(); i++) {
+                permits.acquire();
+                create(options.firstSellerId() + i % options.sellers(), 0, pool);
+            }
+            // Все разрешения свободны — значит, завершены все запросы, включая повторы
+            permits.acquire(options.concurrency());
+            permits.release(options.concurrency());
+        } finally {
+            progress.shutdownNow();
+        }
+        return new Result(created.sum(), failed.sum(), retried.sum(), System.nanoTime() - started, lastError);
+    }
+
+    private void create(long sellerId, int attempt, IdPool.Writer pool) {
+        client.sendAsync(request(sellerId), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    if (error == null && response.statusCode() == 200) {
+                        onCreated(response.body(), sellerId, pool);
+                    } else if (attempt < options.retries() && retryable(response, error)) {
+                        retried.increment();
+                        CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS)
+                                .execute(() -> create(sellerId, attempt + 1, pool));
+                    } else {
+                        lastError = error != null ? error.toString()
+                                : response.statusCode() + " " + new String(response.body(), StandardCharsets.UTF_8);
+                        failed.increment();
+                        permits.release();
+                    }
+                });
+    }
+
+    private void onCreated(byte[] body, long sellerId, IdPool.Writer pool) {
+        try {
+            pool.add(new IdPool.Entry(Json.readCreateItemResponse(body).itemId(), sellerId));
+            created.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+        } catch (RuntimeException e) {
+            lastError = e.toString();
+            failed.increment();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private HttpRequest request(long sellerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] body = Json.write(new CreateItemRequest(sellerId, "seed-" + random.nextInt(1_000_000),
+                random.nextInt(1, 100_000),
+                new Statistics(random.nextInt(100), random.nextInt(1000), random.nextInt(10_000))));
+        return HttpRequest.newBuilder(createUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private static boolean retryable(HttpResponse<?> response, Throwable error) {
+        return error != null || response.statusCode() == 429 || response.statusCode() >= 500;
+    }
+
+    /**
+     * Экспоненциальная задержка со случайным разбросом, чтобы повторы не приходили пачкой.
+     */
+    private static long backoffMillis(int attempt) {
+        long cap = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << attempt);
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    public record Result(long created, long failed, long retried, long elapsedNanos, String lastError) {
+
+        public void print(PrintStream out) {
+            double seconds = elapsedNanos / 1e9;
+            out.printf("Created %d items in %.1f s (%.0f items/s), failed %d, retried %d%n",
+                    created, seconds, created / seconds, failed, retried);
+            if (lastError != null) {
+                out.println("Last error: " + lastError);
+            }
+        }
+    }
+}
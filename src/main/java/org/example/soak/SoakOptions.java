@@ -0,0 +1,133 @@
+package org.example.soak;
+
+import org.example.config.Config;
+import org.example.config.Options;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Параметры длительного прогона. Разбираются из аргументов вида {@code --duration=8h}.
+ * <pre>
+ *   --duration=1h               длительность прогона
+ *   --interval=10s              период записи точки временного ряда
+ *   --workers=8                 число потоков, каждый гоняет сценарии по кругу
+ *   --think-time=0ms            пауза между сценариями одного потока
+ *   --rereads=0                 сколько раз за круг поток перечитывает своё объявление и статистику
+ *   --cache=on|off              повторные чтения из кеша ответов (по умолчанию -Dapi.cache)
+ *   --target=stub|remote        встроенная заглушка или реальный сервис
+ *   --base-url=https://...      адрес сервиса для target=remote
+ *   --output=soak.csv           временной ряд: .csv или .jsonl
+ *   --rotate-size=64MB          размер файла, после которого начинается следующий
+ * </pre>
+ */
+public class SoakOptions {
+    private Duration duration = Duration.ofHours(1);
+    private Duration interval = Duration.ofSeconds(10);
+    private int workers = 8;
+    private Duration thinkTime = Duration.ZERO;
+    private int rereads;
+    private boolean cache = Config.get().cacheEnabled();
+    private String target = Config.get().target();
+    private String baseUrl = Config.get().baseUrl();
+    private Path output = Path.of("soak.csv");
+    private long rotateBytes = 64L << 20;
+
+    public static SoakOptions parse(String[] args) {
+        SoakOptions options = new SoakOptions();
+        Options.parse(args, (name, value) -> {
+            switch (name) {
+                case "duration" -> options.duration = Config.parseDuration(value);
+                case "interval" -> options.interval = Config.parseDuration(value);
+                case "workers" -> options.workers = Integer.parseInt(value);
+                case "think-time" -> options.thinkTime = Config.parseDuration(value);
+                case "rereads" -> options.rereads = Integer.parseInt(value);
+                case "cache" -> options.cache = parseSwitch(value);
+                case "target" -> options.target = value;
+                case "base-url" -> options.baseUrl = value;
+                case "output" -> options.output = Path.of(value);
+                case "rotate-size" -> options.rotateBytes = parseSize(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (options.workers <= 0) {
+            throw new IllegalArgumentException("--workers must be positive");
+        }
+        if (options.rereads < 0) {
+            throw new IllegalArgumentException("--rereads must not be negative");
+        }
+        if (options.interval.isZero() || options.interval.isNegative()) {
+            throw new IllegalArgumentException("--interval must be positive");
+        }
+        return options;
+    }
+
+    private static boolean parseSwitch(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "on" -> true;
+            case "off" -> false;
+            default -> throw new IllegalArgumentException("--cache must be on or off, got: " + value);
+        };
+    }
+
+    /**
+     * Размер в форме {@code 512KB}, {@code 64MB}, {@code 1GB} или в байтах.
+     */
+    static long parseSize(String value) {
+        String v = value.trim().toUpperCase(Locale.ROOT);
+        long multiplier = 1;
+        if (v.endsWith("KB")) {
+            multiplier = 1L << 10;
+        } else if (v.endsWith("MB")) {
+            multiplier = 1L << 20;
+        } else if (v.endsWith("GB")) {
+            multiplier = 1L << 30;
+        }
+        String digits = multiplier == 1 ? v : v.substring(0, v.length() - 2);
+        return Long.parseLong(digits.trim()) * multiplier;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Duration interval() {
+        return interval;
+    }
+
+    public int workers() {
+        return workers;
+    }
+
+    public Duration thinkTime() {
+        return thinkTime;
+    }
+
+    public int rereads() {
+        return rereads;
+    }
+
+    public boolean cache() {
+        return cache;
+    }
+
+    public boolean useStub() {
+        return "stub".equalsIgnoreCase(target);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Path output() {
+        return output;
+    }
+
+    public long rotateBytes() {
+        return rotateBytes;
+    }
+}
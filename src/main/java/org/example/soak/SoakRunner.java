@@ -0,0 +1,276 @@
+package org.example.soak;
+
+import org.HdrHistogram.Histogram;
+import org.example.api.Endpoint;
+import org.example.cache.ResponseCache;
+import org.example.client.HttpClients;
+import org.example.config.Config;
+import org.example.metrics.HttpRequestEvent;
+import org.example.metrics.LatencyRegistry;
+import org.example.metrics.LiveMetrics;
+import org.example.metrics.MetricsServer;
+import org.example.model.CreateItemRequest;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.example.stub.ItemServiceStub;
+import org.example.validation.ResponseValidator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Длительный прогон по закрытой модели: каждый поток по кругу выполняет сценарии {@code ApiTest}
+ * и ждёт ответа перед следующим запросом.
+ * <p>
+ * В памяти держатся только гистограммы текущего интервала ({@link LatencyRegistry#intervalOnly()}):
+ * раз в {@code --interval} они сбрасываются в файл временного ряда, поэтому куча самого прогона
+ * не растёт за часы работы, и рост задержек, ошибок или памяти сервиса виден по точкам ряда.
+ * <p>
+ * С {@code --rereads=N} поток перечитывает своё объявление и статистику ещё N раз за круг. Такие повторы
+ * при включённом кеше отдаются из {@link ResponseCache} и не учитываются в задержках; проверки ошибочных
+ * запросов и первое чтение всегда обращаются к сервису.
+ */
+public class SoakRunner {
+    private static final Duration REQUEST_TIMEOUT = Config.get().requestTimeout();
+    private static final String TOTAL = "total";
+
+    private final SoakOptions options;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final LatencyRegistry latencies = LatencyRegistry.intervalOnly();
+    private final LiveMetrics live = new LiveMetrics();
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final ResponseCache cache;
+
+    private long totalRequests;
+    private long totalErrors;
+    private double worstP99Micros;
+    private String worstP99Endpoint;
+
+    public SoakRunner(SoakOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.client = HttpClients.create(baseUrl);
+        Config config = Config.get();
+        this.cache = options.cache()
+                ? new ResponseCache(config.cacheMaxEntries(), config.cacheMaxBytes(), config.cacheTtl())
+                : null;
+        for (Endpoint endpoint : Endpoint.values()) {
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Точка входа режима {@code soak}.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        SoakOptions options = SoakOptions.parse(args);
+        if (options.useStub()) {
+            try (ItemServiceStub stub = ItemServiceStub.start()) {
+                new SoakRunner(options, stub.baseUrl()).run();
+            }
+        } else {
+            new SoakRunner(options, options.baseUrl()).run();
+        }
+    }
+
+    public void run() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + options.duration().toNanos();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < options.workers(); i++) {
+            Thread worker = new Thread(() -> work(deadline), "soak-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        try (MetricsServer ignored = MetricsServer.start(live);
+             TimeSeriesWriter series = new TimeSeriesWriter(options.output(), options.rotateBytes())) {
+            long intervalNanos = options.interval().toNanos();
+            long previous = started;
+            for (long next = started + intervalNanos; next < deadline; next += intervalNanos) {
+                TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+                long now = System.nanoTime();
+                writeInterval(series, now - started, now - previous);
+                previous = now;
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            long now = System.nanoTime();
+            writeInterval(series, now - started, now - previous);
+        }
+
+        System.out.printf("Soak finished: %d requests, %d errors, worst interval p99 %.2f ms (%s)%n",
+                totalRequests, totalErrors, worstP99Micros / 1000.0, worstP99Endpoint);
+        if (cache != null) {
+            ResponseCache.Stats stats = cache.stats();
+            System.out.printf("Response cache: %d hits, %d misses (%.1f%% hit rate), %d evictions%n",
+                    stats.hits(), stats.misses(), stats.hitRate() * 100, stats.evictions());
+        }
+        System.out.println("Time series written to " + options.output().toAbsolutePath());
+    }
+
+    private void work(long deadline) {
+        long thinkNanos = options.thinkTime().toNanos();
+        while (System.nanoTime() < deadline) {
+            runScenarios();
+            if (thinkNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(thinkNanos);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Один круг сценариев ApiTest: создание и чтение своего объявления и проверки ошибок.
+     */
+    private void runScenarios() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sellerId = random.nextLong(100_000_000L, Integer.MAX_VALUE);
+
+        // TC-04: создание объявления
+        byte[] body = Json.write(new CreateItemRequest(sellerId, "soak-" + random.nextInt(1_000_000),
+                random.nextInt(1, 100_000), new Statistics(random.nextInt(100), random.nextInt(1000),
+                random.nextInt(10_000))));
+        HttpResponse<byte[]> created = call(Endpoint.CREATE_ITEM, 200, request(Endpoint.CREATE_ITEM.path(null))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body)));
+        String itemId = created != null && created.statusCode() == 200 ? itemId(created) : null;
+        if (itemId != null) {
+            for (int i = 0; i <= options.rereads(); i++) {
+                read(Endpoint.GET_ITEM, itemId);      // TC-01
+                read(Endpoint.GET_STATISTIC, itemId); // TC-10
+            }
+        }
+        call(Endpoint.LIST_BY_SELLER, 200, request(Endpoint.LIST_BY_SELLER.path(sellerId)));     // TC-13
+        call(Endpoint.GET_ITEM, 404, request(Endpoint.GET_ITEM.path(UUID.randomUUID())));         // TC-09
+        call(Endpoint.GET_STATISTIC, 400, request(Endpoint.GET_STATISTIC.path("invalid_id")));    // TC-12
+        call(Endpoint.LIST_BY_SELLER, 400, request(Endpoint.LIST_BY_SELLER.path("not_a_number"))); // TC-16
+    }
+
+    /**
+     * Чтение своего объявления или статистики. Ответ 200 кладётся в кеш, и повторное чтение того же
+     * ресурса до истечения срока жизни записи к сервису не обращается.
+     */
+    private void read(Endpoint endpoint, String itemId) {
+        String path = endpoint.path(itemId);
+        if (cache != null && cache.get(path) != null) {
+            return;
+        }
+        HttpResponse<byte[]> response = call(endpoint, 200, request(path));
+        if (cache != null && response != null && response.statusCode() == 200) {
+            cache.put(path, new ResponseCache.Entry(200,
+                    response.headers().firstValue("Content-Type").orElse(null), response.body()));
+        }
+    }
+
+    private String itemId(HttpResponse<byte[]> created) {
+        try {
+            return Json.readCreateItemResponse(created.body()).itemId();
+        } catch (RuntimeException e) {
+            errors.get(Endpoint.CREATE_ITEM).increment();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+
+    /**
+     * Выполняет запрос и записывает задержку; неожиданный код, ответ не по контракту эндпоинта
+     * ({@link ResponseValidator}) или отсутствие ответа считаются ошибкой.
+     */
+    private HttpResponse<byte[]> call(Endpoint endpoint, int expectedStatus, HttpRequest.Builder request) {
+        HttpRequestEvent event = HttpRequestEvent.begin(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            record(endpoint, event, response.statusCode(), System.nanoTime() - start);
+            ResponseValidator contract = ResponseValidator.forEndpoint(endpoint);
+            if (response.statusCode() != expectedStatus
+                    || contract.validate(response.statusCode(), response.body()) != null) {
+                errors.get(endpoint).increment();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(endpoint, event, LatencyRegistry.NO_RESPONSE, System.nanoTime() - start);
+            errors.get(endpoint).increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void record(Endpoint endpoint, HttpRequestEvent event, int status, long latencyNanos) {
+        latencies.record(endpoint.template(), status, latencyNanos);
+        live.record(endpoint.template(), status, latencyNanos);
+        if (event != null) {
+            event.finish(status, latencyNanos);
+        }
+    }
+
+    private void writeInterval(TimeSeriesWriter series, long elapsedNanos, long intervalNanos) throws IOException {
+        Map<Endpoint, Histogram> byEndpoint = new EnumMap<>(Endpoint.class);
+        Histogram total = LatencyRegistry.newHistogram();
+        for (LatencyRegistry.Snapshot snapshot : latencies.intervalSnapshot()) {
+            Endpoint endpoint = endpointByTemplate(snapshot.template());
+            byEndpoint.computeIfAbsent(endpoint, e -> LatencyRegistry.newHistogram()).add(snapshot.histogram());
+            total.add(snapshot.histogram());
+        }
+
+        Instant now = Instant.now();
+        double elapsed = elapsedNanos / 1e9;
+        double seconds = intervalNanos / 1e9;
+        long heapUsed = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        long intervalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = byEndpoint.getOrDefault(endpoint, LatencyRegistry.newHistogram());
+            long endpointErrors = errors.get(endpoint).sumThenReset();
+            intervalErrors += endpointErrors;
+            series.write(now, elapsed, endpoint.template(), endpointErrors, seconds, histogram, heapUsed);
+            double p99 = histogram.getValueAtPercentile(99);
+            if (histogram.getTotalCount() > 0 && p99 > worstP99Micros) {
+                worstP99Micros = p99;
+                worstP99Endpoint = endpoint.template() + " at " + String.format("%.0f s", elapsed);
+            }
+        }
+        series.write(now, elapsed, TOTAL, intervalErrors, seconds, total, heapUsed);
+
+        totalRequests += total.getTotalCount();
+        totalErrors += intervalErrors;
+        System.out.printf("%7.0f s  %8.1f rps  errors %d  p99 %.2f ms  heap %d MB%n",
+                elapsed, total.getTotalCount() / seconds, intervalErrors,
+                total.getValueAtPercentile(99) / 1000.0, heapUsed >> 20);
+    }
+
+    private static Endpoint endpointByTemplate(String template) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.template().equals(template)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint template: " + template);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.soak;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Временной ряд длительного прогона: по строке на эндпоинт за каждый интервал.
+ * <p>
+ * Формат выбирается по расширению файла: {@code .csv} или JSON Lines ({@code .jsonl}, {@code .json}).
+ * Каждая строка сбрасывается на диск сразу, поэтому файл можно смотреть во время прогона.
+ * Когда файл превышает заданный размер, запись продолжается в {@code soak.1.csv}, {@code soak.2.csv}...
+ * Значения задержек — миллисекунды.
+ */
+class TimeSeriesWriter implements AutoCloseable {
+    private static final String CSV_HEADER =
+            "time,elapsed_s,endpoint,requests,rps,errors,error_rate,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,heap_used_mb";
+
+    private final Path base;
+    private final long rotateBytes;
+    private final boolean csv;
+    private BufferedWriter out;
+    private long written;
+    private int part;
+
+    TimeSeriesWriter(Path base, long rotateBytes) throws IOException {
+        this.base = base;
+        this.rotateBytes = rotateBytes;
+        this.csv = base.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+        if (base.getParent() != null) {
+            Files.createDirectories(base.getParent());
+        }
+        open(base);
+    }
+
+    /**
+     * Одна точка ряда: запросы эндпоинта за интервал и их задержки.
+     */
+    void write(Instant time, double elapsedSeconds, String endpoint, long errors, double intervalSeconds,
+               Histogram latency, long heapUsedBytes) throws IOException {
+        long requests = latency.getTotalCount();
+        double errorRate = requests == 0 ? 0 : (double) errors / requests;
+        String line;
+        if (csv) {
+            line = String.format(Locale.ROOT, "%s,%.1f,%s,%d,%.1f,%d,%.4f,%.2f,%.2f,%.2f,%.2f,%.2f,%d",
+                    time, elapsedSeconds, endpoint, requests, requests / intervalSeconds, errors, errorRate,
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()), heapUsedBytes >> 20);
+        } else {
+            line = String.format(Locale.ROOT, "{\"time\":\"%s\",\"elapsedS\":%.1f,\"endpoint\":\"%s\","
+                            + "\"requests\":%d,\"rps\":%.1f,\"errors\":%d,\"errorRate\":%.4f,\"p50\":%.2f,"
+                            + "\"p90\":%.2f,\"p99\":%.2f,\"p99.9\":%.2f,\"max\":%.2f,\"heapUsedMb\":%d}",
+                    time, elapsedSeconds, endpoint, requests, requests / intervalSeconds, errors, errorRate,
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()), heapUsedBytes >> 20);
+        }
+        if (written + line.length() + 1 > rotateBytes && written > 0) {
+            out.close();
+            part++;
+            open(partPath());
+        }
+        writeLine(line);
+        out.flush();
+    }
+
+    private void open(Path file) throws IOException {
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        written = 0;
+        if (csv) {
+            writeLine(CSV_HEADER);
+        }
+    }
+
+    private void writeLine(String line) throws IOException {
+        out.write(line);
+        out.newLine();
+        written += line.length() + 1;
+    }
+
+    private Path partPath() {
+        String name = base.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String partName = dot < 0 ? name + "." + part : name.substring(0, dot) + "." + part + name.substring(dot);
+        return base.resolveSibling(partName);
+    }
+
+    private static double millis(double micros) {
+        return micros / 1000.0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
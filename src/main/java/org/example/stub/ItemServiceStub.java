@@ -0,0 +1,346 @@
+package org.example.stub;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.model.CreateItemResponse;
+import org.example.model.ErrorResponse;
+import org.example.model.Item;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.example.validation.Uuids;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Встроенная in-process заглушка сервиса объявлений.
+ * <p>
+ * Реализует четыре эндпоинта, которые используют тесты, и повторяет ответы
+ * реального сервиса (включая известные баги из {@code BUGS.md}), чтобы тесты
+ * проходили одинаково против заглушки и против {@code Config#baseUrl()}.
+ * Запускается на свободном порту loopback-интерфейса за миллисекунды.
+ */
+public class ItemServiceStub implements AutoCloseable {
+    private static final String API_PREFIX = "/api/1/";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    static final String INVALID_ITEM_ID = "передан некорректный идентификатор объявления";
+    static final String INVALID_SELLER_ID = "передан некорректный идентификатор продавца";
+    static final String ITEM_SAVED = CreateItemResponse.SAVED_PREFIX;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON = MAPPER.getFactory();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ItemStore store;
+
+    private ItemServiceStub(HttpServer server, ExecutorService executor, ItemStore store) {
+        this.server = server;
+        this.executor = executor;
+        this.store = store;
+    }
+
+    /**
+     * Запускает заглушку на свободном порту с данными из фикстур.
+     */
+    public static ItemServiceStub start() {
+        return start(0, new ItemStore().withFixtures());
+    }
+
+    public static ItemServiceStub start(int port, ItemStore store) {
+        try {
+            HttpServer server = HttpServer.create(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors() * 4, daemonThreads());
+            ItemServiceStub stub = new ItemServiceStub(server, executor, store);
+            server.createContext("/", stub::handle);
+            server.setExecutor(executor);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start item service stub", e);
+        }
+    }
+
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (!path.startsWith(API_PREFIX)) {
+                sendRouteNotFound(exchange);
+                return;
+            }
+            String[] segments = path.substring(API_PREFIX.length()).split("/", -1);
+
+            if (segments.length == 1 && segments[0].equals("item") && method.equals("POST")) {
+                createItem(exchange);
+            } else if (segments.length == 2 && segments[0].equals("item") && method.equals("GET")) {
+                getItem(exchange, segments[1]);
+            } else if (segments.length == 2 && segments[0].equals("statistic") && method.equals("GET")) {
+                getStatistic(exchange, segments[1]);
+            } else if (segments.length == 2 && segments[1].equals("item") && method.equals("GET")) {
+                getItemsBySeller(exchange, segments[0]);
+            } else {
+                sendRouteNotFound(exchange);
+            }
+        }
+    }
+
+    /**
+     * POST /api/1/item
+     */
+    private void createItem(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (body.length == 0) {
+            // Реальный сервис падает на пустом теле (TC-21)
+            send(exchange, 500, gen -> {
+                gen.writeStartObject();
+                gen.writeStringField("message", "internal error");
+                gen.writeNumberField("code", 500);
+                gen.writeEndObject();
+            });
+            return;
+        }
+
+        Item item;
+        try {
+            item = parseCreateRequest(MAPPER.readTree(body));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            item = null;
+        }
+        if (item == null) {
+            sendError(exchange, 400, ErrorResponse.NO_ITEM_PASSED, "", true);
+            return;
+        }
+
+        String id = item.id();
+        send(exchange, 200, gen -> {
+            gen.writeStartObject();
+            gen.writeStringField("status", ITEM_SAVED + id);
+            gen.writeEndObject();
+        });
+    }
+
+    /**
+     * Разбирает тело запроса по правилам encoding/json из Go: имена полей без учёта регистра,
+     * лишние поля игнорируются, отсутствующие и null получают нулевые значения,
+     * несовпадение типа — ошибка.
+     */
+    private Item parseCreateRequest(JsonNode root) {
+        if (root == null || !root.isObject()) {
+            return null;
+        }
+        long sellerId = 0;
+        long price = 0;
+        String name = "";
+        Statistics stats = Statistics.EMPTY;
+
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            switch (field.getKey().toLowerCase(Locale.ROOT)) {
+                case "sellerid" -> sellerId = requireLong(value);
+                case "price" -> price = requireLong(value);
+                case "name" -> {
+                    if (!value.isTextual()) {
+                        throw new IllegalArgumentException("name");
+                    }
+                    name = value.textValue();
+                }
+                case "statistics" -> stats = parseStatistics(value);
+                default -> {
+                }
+            }
+        }
+        return store.create(sellerId, name, price, stats);
+    }
+
+    private static Statistics parseStatistics(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("statistics");
+        }
+        long contacts = 0;
+        long likes = 0;
+        long viewCount = 0;
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                continue;
+            }
+            switch (field.getKey().toLowerCase(Locale.ROOT)) {
+                case "contacts" -> contacts = requireLong(field.getValue());
+                case "likes" -> likes = requireLong(field.getValue());
+                case "viewcount" -> viewCount = requireLong(field.getValue());
+                default -> {
+                }
+            }
+        }
+        return new Statistics(contacts, likes, viewCount);
+    }
+
+    private static long requireLong(JsonNode value) {
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            throw new IllegalArgumentException(value.toString());
+        }
+        return value.longValue();
+    }
+
+    /**
+     * GET /api/1/item/{id}
+     */
+    private void getItem(HttpExchange exchange, String id) throws IOException {
+        if (!Uuids.isValid(id)) {
+            sendError(exchange, 400, "400", INVALID_ITEM_ID, true);
+            return;
+        }
+        Item item = store.find(id);
+        if (item == null) {
+            sendError(exchange, 404, "404", "item " + id + " not found", false);
+            return;
+        }
+        send(exchange, 200, gen -> {
+            gen.writeStartArray();
+            Json.write(gen, item);
+            gen.writeEndArray();
+        });
+    }
+
+    /**
+     * GET /api/1/statistic/{id}
+     */
+    private void getStatistic(HttpExchange exchange, String id) throws IOException {
+        if (!Uuids.isValid(id)) {
+            sendError(exchange, 400, "400", INVALID_ITEM_ID, true);
+            return;
+        }
+        Statistics stats = store.findStatistics(id);
+        if (stats == null) {
+            sendError(exchange, 404, "404", "statistic " + id + " not found", false);
+            return;
+        }
+        send(exchange, 200, gen -> {
+            gen.writeStartArray();
+            Json.write(gen, stats);
+            gen.writeEndArray();
+        });
+    }
+
+    /**
+     * GET /api/1/{sellerID}/item
+     */
+    private void getItemsBySeller(HttpExchange exchange, String sellerIdParam) throws IOException {
+        long sellerId;
+        try {
+            sellerId = Long.parseLong(sellerIdParam);
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "400", INVALID_SELLER_ID, true);
+            return;
+        }
+        Collection<Item> items = store.findBySeller(sellerId);
+        send(exchange, 200, gen -> {
+            gen.writeStartArray();
+            for (Item item : items) {
+                Json.write(gen, item);
+            }
+            gen.writeEndArray();
+        });
+    }
+
+    /**
+     * Конверт ошибки сервиса: {@code {"result": {"message": ..., "messages": {}|null}, "status": ...}}.
+     */
+    private static void sendError(HttpExchange exchange, int code, String status, String message,
+                                  boolean emptyMessages) throws IOException {
+        send(exchange, code, gen -> {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("result");
+            gen.writeStringField("message", message);
+            gen.writeFieldName("messages");
+            if (emptyMessages) {
+                gen.writeStartObject();
+                gen.writeEndObject();
+            } else {
+                gen.writeNull();
+            }
+            gen.writeEndObject();
+            gen.writeStringField("status", status);
+            gen.writeEndObject();
+        });
+    }
+
+    private static void sendRouteNotFound(HttpExchange exchange) throws IOException {
+        send(exchange, 404, gen -> {
+            gen.writeStartObject();
+            gen.writeStringField("message", "route not found");
+            gen.writeNumberField("code", 404);
+            gen.writeEndObject();
+        });
+    }
+
+    private static void send(HttpExchange exchange, int code, JsonWriter writer) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (JsonGenerator gen = JSON.createGenerator(buffer)) {
+            writer.write(gen);
+        }
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(code, buffer.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            buffer.writeTo(out);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "item-stub-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
+}
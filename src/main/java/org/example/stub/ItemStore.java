@@ -0,0 +1,96 @@
+package org.example.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.Item;
+import org.example.model.Json;
+import org.example.model.Statistics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Потокобезопасное хранилище объявлений для {@link ItemServiceStub}.
+ * <p>
+ * Статистика хранится отдельно от объявления, как и в реальном сервисе:
+ * эндпоинт {@code /api/1/statistic/{id}} отдаёт накопленные счётчики,
+ * а карточка объявления — снимок, переданный при создании.
+ */
+public class ItemStore {
+    /** Формат createdAt сервиса на Go: {@code 2025-02-12 11:28:35.164375 +0300 +0300}. */
+    static final DateTimeFormatter CREATED_AT_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSS xx xx");
+
+    private static final String FIXTURES_RESOURCE = "/stub/fixtures.json";
+
+    private final Map<String, Item> items = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<Item>> itemsBySeller = new ConcurrentHashMap<>();
+
+    /**
+     * Создаёт объявление с новым идентификатором.
+     */
+    public Item create(long sellerId, String name, long price, Statistics stats) {
+        String id = UUID.randomUUID().toString();
+        String createdAt = OffsetDateTime.now().format(CREATED_AT_FORMAT);
+        Item item = new Item(id, sellerId, name, price, createdAt, stats);
+        put(item, stats);
+        return item;
+    }
+
+    public Item find(String id) {
+        return items.get(id);
+    }
+
+    public Statistics findStatistics(String id) {
+        return statistics.get(id);
+    }
+
+    public Collection<Item> findBySeller(long sellerId) {
+        Queue<Item> sellerItems = itemsBySeller.get(sellerId);
+        return sellerItems == null ? Collections.emptyList() : sellerItems;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    private void put(Item item, Statistics stats) {
+        items.put(item.id(), item);
+        statistics.put(item.id(), stats);
+        itemsBySeller.computeIfAbsent(item.sellerId(), k -> new ConcurrentLinkedQueue<>()).add(item);
+    }
+
+    /**
+     * Загружает снимок данных реального сервиса из {@code /stub/fixtures.json}.
+     */
+    public ItemStore withFixtures() {
+        try (InputStream in = ItemStore.class.getResourceAsStream(FIXTURES_RESOURCE)) {
+            if (in == null) {
+                return this;
+            }
+            JsonNode root = new ObjectMapper().readTree(in);
+            for (JsonNode node : root.path("items")) {
+                Item item = Json.readItem(node);
+                put(item, item.statistics());
+            }
+            // Накопленная статистика может отличаться от снимка в карточке объявления
+            for (JsonNode node : root.path("statistics")) {
+                statistics.put(node.path("id").asText(), Json.readStatistics(node));
+            }
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load stub fixtures", e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.traffic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only журнал пар запрос/ответ в memory-mapped файле.
+ * <p>
+ * Формат: заголовок {@code APITRF01}, затем записи
+ * {@code [int длина][short длина ключа][ключ][short статус][short длина content-type][content-type][int длина тела][тело]}.
+ * Запись нулевой длины (или конец файла) завершает журнал.
+ * <p>
+ * Ключ записи — {@link #key}: метод, путь с query, хеш тела и номер повторения одинакового запроса,
+ * поэтому повторные одинаковые запросы (TC-22) воспроизводятся в исходном порядке.
+ */
+public final class TrafficLog {
+    private static final String MAGIC = "APITRF01";
+    private static final int CHUNK_SIZE = 4 << 20;
+
+    private TrafficLog() {
+    }
+
+    /**
+     * Записанный ответ.
+     */
+    public record Exchange(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * Ключ запроса: {@code POST /api/1/item 1b2c3d4e#0}. Хост и порт в ключ не входят,
+     * чтобы журнал, записанный против заглушки на случайном порту, воспроизводился где угодно.
+     */
+    public static String key(String method, String pathAndQuery, byte[] body, int occurrence) {
+        CRC32C crc = new CRC32C();
+        if (body != null) {
+            crc.update(body);
+        }
+        return method + ' ' + pathAndQuery + ' ' + Long.toHexString(crc.getValue()) + '#' + occurrence;
+    }
+
+    /**
+     * Открывает журнал на запись, перезаписывая существующий файл.
+     */
+    public static Writer create(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            return new Writer(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create traffic log " + file, e);
+        }
+    }
+
+    /**
+     * Отображает журнал в память и строит индекс по ключам за один проход.
+     */
+    public static Index open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new Index(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open traffic log " + file, e);
+        }
+    }
+
+    /**
+     * Потокобезопасная дозапись. Файл отображается окнами по {@value #CHUNK_SIZE} байт;
+     * при закрытии хвост последнего окна обрезается.
+     */
+    public static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private boolean closed;
+
+        private Writer(FileChannel channel) throws IOException {
+            this.channel = channel;
+            map(0, CHUNK_SIZE);
+            window.put(MAGIC.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        public synchronized void append(String key, Exchange exchange) {
+            if (closed) {
+                throw new IllegalStateException("Traffic log is closed");
+            }
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] contentType = exchange.contentType() == null ? new byte[0]
+                    : exchange.contentType().getBytes(StandardCharsets.UTF_8);
+            byte[] body = exchange.body() == null ? new byte[0] : exchange.body();
+            int length = 2 + keyBytes.length + 2 + 2 + contentType.length + 4 + body.length;
+            try {
+                // Четыре байта в конце окна остаются под завершающую нулевую длину
+                if (window.remaining() < 4 + length + 4) {
+                    map(windowStart + window.position(), Math.max(CHUNK_SIZE, 4 + length + 4));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to grow traffic log", e);
+            }
+            window.putInt(length)
+                    .putShort((short) keyBytes.length).put(keyBytes)
+                    .putShort((short) exchange.status())
+                    .putShort((short) contentType.length).put(contentType)
+                    .putInt(body.length).put(body);
+        }
+
+        private void map(long position, int size) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (channel) {
+                window.force();
+                channel.truncate(windowStart + window.position());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close traffic log", e);
+            }
+        }
+    }
+
+    /**
+     * Индекс журнала: ключ → смещение записи. Ответы декодируются только при обращении.
+     */
+    public static final class Index {
+        private final ByteBuffer data;
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        private Index(ByteBuffer data) {
+            this.data = data;
+            if (data.limit() < MAGIC.length() || !string(0, MAGIC.length()).equals(MAGIC)) {
+                throw new IllegalArgumentException("Not a traffic log: missing " + MAGIC + " header");
+            }
+            int position = MAGIC.length();
+            while (position + 4 <= data.limit()) {
+                int length = data.getInt(position);
+                if (length == 0) {
+                    break;
+                }
+                int keyLength = data.getShort(position + 4);
+                offsets.put(string(position + 6, keyLength), position + 6 + keyLength);
+                position += 4 + length;
+            }
+        }
+
+        public int size() {
+            return offsets.size();
+        }
+
+        /**
+         * Записанный ответ или {@code null}, если такого запроса в журнале нет.
+         */
+        public Exchange find(String key) {
+            Integer offset = offsets.get(key);
+            if (offset == null) {
+                return null;
+            }
+            int position = offset;
+            int status = data.getShort(position);
+            int contentTypeLength = data.getShort(position + 2);
+            String contentType = string(position + 4, contentTypeLength);
+            position += 4 + contentTypeLength;
+            byte[] body = new byte[data.getInt(position)];
+            data.get(position + 4, body);
+            return new Exchange(status, contentType, body);
+        }
+
+        private String string(int position, int length) {
+            byte[] bytes = new byte[length];
+            data.get(position, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
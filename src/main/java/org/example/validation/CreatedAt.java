@@ -0,0 +1,147 @@
+package org.example.validation;
+
+/**
+ * Разбор {@code createdAt} сервиса на Go: {@code 2025-02-12 11:28:35.164375 +0300 +0300} — дата, время
+ * с дробной частью секунды (1–9 цифр), смещение и имя зоны, которое Go для зоны без аббревиатуры тоже пишет
+ * смещением.
+ * <p>
+ * Разбор написан вручную и работает прямо с буфером символов парсера JSON: в отличие от регулярного выражения
+ * и {@link java.time.format.DateTimeFormatter}, он ничего не выделяет и заодно проверяет диапазоны полей —
+ * {@code 2025-02-30} или {@code 25:00:00} не проходят.
+ */
+public final class CreatedAt {
+    /** Результат {@link #parse} для строки не того формата. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /** Образец формата для сообщений об ошибках. */
+    public static final String EXAMPLE = "2025-02-12 11:28:35.164375 +0300 +0300";
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private CreatedAt() {
+    }
+
+    public static boolean isValid(CharSequence text) {
+        return parse(text) != INVALID;
+    }
+
+    public static boolean isValid(char[] buffer, int offset, int length) {
+        return parse(buffer, offset, length) != INVALID;
+    }
+
+    /**
+     * @return момент в миллисекундах эпохи UTC или {@link #INVALID}
+     */
+    public static long parse(CharSequence text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return parse(chars, 0, chars.length);
+    }
+
+    /**
+     * Разбирает {@code length} символов буфера начиная с {@code offset}.
+     *
+     * @return момент в миллисекундах эпохи UTC или {@link #INVALID}
+     */
+    public static long parse(char[] buffer, int offset, int length) {
+        int end = offset + length;
+        // Самая короткая допустимая строка: "2025-02-12 11:28:35.1 +0300 +0300"
+        if (length < 33) {
+            return INVALID;
+        }
+        int p = offset;
+        int year = digits(buffer, p, 4);
+        int month = digits(buffer, p + 5, 2);
+        int day = digits(buffer, p + 8, 2);
+        int hour = digits(buffer, p + 11, 2);
+        int minute = digits(buffer, p + 14, 2);
+        int second = digits(buffer, p + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+                || buffer[p + 4] != '-' || buffer[p + 7] != '-' || buffer[p + 10] != ' '
+                || buffer[p + 13] != ':' || buffer[p + 16] != ':' || buffer[p + 19] != '.') {
+            return INVALID;
+        }
+        p += 20;
+        int fractionStart = p;
+        int millis = 0;
+        while (p < end && isDigit(buffer[p])) {
+            if (p - fractionStart < 3) {
+                millis = millis * 10 + buffer[p] - '0';
+            }
+            p++;
+        }
+        int fractionDigits = p - fractionStart;
+        if (fractionDigits == 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            return INVALID;
+        }
+        for (int i = fractionDigits; i < 3; i++) {
+            millis *= 10;
+        }
+        // Смещение и зона: " +0300 +0300"
+        if (end - p != 12 || buffer[p] != ' ' || buffer[p + 6] != ' ') {
+            return INVALID;
+        }
+        int offsetMinutes = offsetMinutes(buffer, p + 1);
+        if (offsetMinutes == Integer.MIN_VALUE || offsetMinutes(buffer, p + 7) == Integer.MIN_VALUE) {
+            return INVALID;
+        }
+        long epochSeconds = epochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second
+                - offsetMinutes * 60L;
+        return epochSeconds * 1000 + millis;
+    }
+
+    /**
+     * {@code +hhmm} или {@code -hhmm} в минутах; {@link Integer#MIN_VALUE}, если формат не тот.
+     */
+    private static int offsetMinutes(char[] buffer, int p) {
+        char sign = buffer[p];
+        int hours = digits(buffer, p + 1, 2);
+        int minutes = digits(buffer, p + 3, 2);
+        if (sign != '+' && sign != '-' || hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+        int total = hours * 60 + minutes;
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * Число из {@code count} цифр или -1.
+     */
+    private static int digits(char[] buffer, int p, int count) {
+        int value = 0;
+        for (int i = p; i < p + count; i++) {
+            if (!isDigit(buffer[i])) {
+                return -1;
+            }
+            value = value * 10 + buffer[i] - '0';
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Номер дня от 1970-01-01 по григорианскому календарю (алгоритм days_from_civil Говарда Хиннанта).
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,459 @@
+package org.example.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.api.Endpoint;
+import org.example.model.CreateItemResponse;
+import org.example.model.ErrorResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Проверка ответа на соответствие контракту эндпоинта: код ответа, форма тела успешного ответа
+ * и конверт ошибки {@code {"result": {"message": ..., "messages": ...}, "status": "400"}}. Отказ в создании
+ * объявления выглядит иначе — с текстом вместо кода в {@code status}, — и проверяется отдельно.
+ * <p>
+ * Валидатор собирается один раз на эндпоинт и разбирает тело за один проход потокового парсера.
+ * Имена полей берутся из таблицы символов парсера, строки сравниваются прямо в его буфере, идентификаторы
+ * и {@code createdAt} проверяются {@link Uuids} и {@link CreatedAt}, поэтому на успешной проверке создаются
+ * только сам парсер и его контекст. Подробное описание — путь, ожидание и фактическое значение — строится
+ * только для ответа, который проверку не прошёл. Это позволяет проверять каждый ответ нагрузочного прогона,
+ * не превращая проверки в нагрузку на процессор генератора.
+ * <p>
+ * Неизменяем и потокобезопасен.
+ */
+public final class ResponseValidator {
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Map<Endpoint, ResponseValidator> CONTRACTS = new EnumMap<>(Endpoint.class);
+    private static final char[] SAVED_PREFIX = CreateItemResponse.SAVED_PREFIX.toCharArray();
+    private static final char[] NO_ITEM_PASSED = ErrorResponse.NO_ITEM_PASSED.toCharArray();
+    private static final int MAX_EXCERPT = 200;
+
+    private static final int ID = 1;
+    private static final int SELLER_ID = 1 << 1;
+    private static final int NAME = 1 << 2;
+    private static final int PRICE = 1 << 3;
+    private static final int CREATED_AT = 1 << 4;
+    private static final int STATISTICS = 1 << 5;
+    private static final int ITEM_FIELDS = (1 << 6) - 1;
+    private static final int CONTACTS = 1;
+    private static final int LIKES = 1 << 1;
+    private static final int VIEW_COUNT = 1 << 2;
+    private static final int STATISTICS_FIELDS = (1 << 3) - 1;
+
+    static {
+        for (Endpoint endpoint : Endpoint.values()) {
+            CONTRACTS.put(endpoint, switch (endpoint) {
+                case CREATE_ITEM -> new ResponseValidator(endpoint, new int[]{200, 400},
+                        ResponseValidator::createResponse, ResponseValidator::createRejected, null);
+                case GET_ITEM -> new ResponseValidator(endpoint, new int[]{200, 400, 404},
+                        ResponseValidator::itemArray, null, null);
+                case GET_STATISTIC -> new ResponseValidator(endpoint, new int[]{200, 400, 404},
+                        ResponseValidator::statisticsArray, null, null);
+                case LIST_BY_SELLER -> new ResponseValidator(endpoint, new int[]{200, 400},
+                        ResponseValidator::itemArray, null, null);
+            });
+        }
+    }
+
+    private final String name;
+    private final int[] statuses;
+    private final Body success;
+    private final Body rejected;
+    private final char[] message;
+
+    private ResponseValidator(Endpoint endpoint, int[] statuses, Body success, Body rejected, String message) {
+        this.name = endpoint.method() + " " + endpoint.template();
+        this.statuses = statuses;
+        this.success = success;
+        this.rejected = rejected;
+        this.message = message == null ? null : message.toCharArray();
+    }
+
+    /**
+     * Контракт эндпоинта: любой документированный код ответа и соответствующая ему форма тела.
+     */
+    public static ResponseValidator forEndpoint(Endpoint endpoint) {
+        return CONTRACTS.get(endpoint);
+    }
+
+    /**
+     * Ошибка с заданным кодом и точным текстом {@code result.message}. Ответ 400 на создание проверяется
+     * по форме отказа в создании, где {@code message} всегда пустой.
+     */
+    public static ResponseValidator error(Endpoint endpoint, int status, String message) {
+        ResponseValidator contract = CONTRACTS.get(endpoint);
+        return new ResponseValidator(endpoint, new int[]{status}, contract.success, contract.rejected, message);
+    }
+
+    /**
+     * @return {@code null}, если ответ соответствует контракту, иначе описание первого несоответствия
+     */
+    public String validate(int status, byte[] body) {
+        if (Arrays.binarySearch(statuses, status) < 0) {
+            return name + ": unexpected status " + status + ", expected one of " + Arrays.toString(statuses)
+                    + ", body: " + excerpt(body);
+        }
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (status == 200) {
+                success.check(parser);
+            } else if (status == 400 && rejected != null) {
+                rejected.check(parser);
+            } else {
+                errorEnvelope(parser, status);
+            }
+            if (parser.nextToken() != null) {
+                throw new Invalid("unexpected content after the JSON value");
+            }
+            return null;
+        } catch (Invalid e) {
+            return name + " " + status + ": " + e.getMessage();
+        } catch (IOException e) {
+            return name + " " + status + ": malformed JSON: " + e.getMessage() + ", body: " + excerpt(body);
+        }
+    }
+
+    /**
+     * Как {@link #validate}, но несоответствие — {@link AssertionError}.
+     */
+    public void verify(int status, byte[] body) {
+        String failure = validate(status, body);
+        if (failure != null) {
+            throw new AssertionError(failure);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void check(JsonParser parser) throws IOException, Invalid;
+    }
+
+    /**
+     * Несоответствие контракту. Без стека: он не нужен, а на потоке ошибок нагрузочного прогона дорог.
+     */
+    private static final class Invalid extends Exception {
+        Invalid(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * {@code {"status": "Сохранили объявление - <uuid>"}}.
+     */
+    private static void createResponse(JsonParser p) throws IOException, Invalid {
+        expect(p, p.nextToken(), JsonToken.START_OBJECT, -1, "", "an object");
+        boolean seen = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("status".equals(field)) {
+                expect(p, value, JsonToken.VALUE_STRING, -1, "status", "a string");
+                char[] text = p.getTextCharacters();
+                int offset = p.getTextOffset();
+                int length = p.getTextLength();
+                if (!regionEquals(text, offset, Math.min(length, SAVED_PREFIX.length), SAVED_PREFIX)
+                        || !Uuids.isValid(text, offset + SAVED_PREFIX.length, length - SAVED_PREFIX.length)) {
+                    throw invalid(p, -1, "status", "\"" + CreateItemResponse.SAVED_PREFIX + "<uuid>\"");
+                }
+                seen = true;
+            } else {
+                p.skipChildren();
+            }
+        }
+        if (!seen) {
+            throw new Invalid("status: missing");
+        }
+    }
+
+    /**
+     * {@code {"result": {"message": "", "messages": {}}, "status": "не передан объект - объявление"}}:
+     * сервис отвечает так на любое тело создания, которое не смог разобрать, без подробностей.
+     */
+    private static void createRejected(JsonParser p) throws IOException, Invalid {
+        expect(p, p.nextToken(), JsonToken.START_OBJECT, -1, "", "an error object");
+        boolean resultSeen = false;
+        boolean statusSeen = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("status".equals(field)) {
+                String expected = "\"" + ErrorResponse.NO_ITEM_PASSED + "\"";
+                expect(p, value, JsonToken.VALUE_STRING, -1, field, expected);
+                if (!regionEquals(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), NO_ITEM_PASSED)) {
+                    throw invalid(p, -1, field, expected);
+                }
+                statusSeen = true;
+            } else if ("result".equals(field)) {
+                expect(p, value, JsonToken.START_OBJECT, -1, field, "an object");
+                emptyResult(p);
+                resultSeen = true;
+            } else {
+                p.skipChildren();
+            }
+        }
+        if (!resultSeen || !statusSeen) {
+            throw new Invalid((resultSeen ? "status" : "result") + ": missing");
+        }
+    }
+
+    /**
+     * {@code {"message": "", "messages": {}}}; парсер стоит на его {@code START_OBJECT}.
+     */
+    private static void emptyResult(JsonParser p) throws IOException, Invalid {
+        boolean messageSeen = false;
+        boolean messagesSeen = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("message".equals(field)) {
+                if (value != JsonToken.VALUE_STRING || p.getTextLength() != 0) {
+                    throw invalid(p, -1, "result.message", "\"\"");
+                }
+                messageSeen = true;
+            } else if ("messages".equals(field)) {
+                expect(p, value, JsonToken.START_OBJECT, -1, "result.messages", "{}");
+                if (p.nextToken() != JsonToken.END_OBJECT) {
+                    throw new Invalid("result.messages: expected {}, got a field " + p.currentName());
+                }
+                messagesSeen = true;
+            } else {
+                p.skipChildren();
+            }
+        }
+        if (!messageSeen || !messagesSeen) {
+            throw new Invalid((messageSeen ? "result.messages" : "result.message") + ": missing");
+        }
+    }
+
+    private static void itemArray(JsonParser p) throws IOException, Invalid {
+        expect(p, p.nextToken(), JsonToken.START_ARRAY, -1, "", "an array of items");
+        JsonToken token;
+        for (int index = 0; (token = p.nextToken()) != JsonToken.END_ARRAY; index++) {
+            expect(p, token, JsonToken.START_OBJECT, index, "", "an item object");
+            item(p, index);
+        }
+    }
+
+    private static void item(JsonParser p, int index) throws IOException, Invalid {
+        int seen = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "id" -> {
+                    expect(p, value, JsonToken.VALUE_STRING, index, field, "a UUID");
+                    if (!Uuids.isValid(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())) {
+                        throw invalid(p, index, field, "a UUID");
+                    }
+                    seen |= ID;
+                }
+                case "sellerId" -> {
+                    expect(p, value, JsonToken.VALUE_NUMBER_INT, index, field, "an integer");
+                    seen |= SELLER_ID;
+                }
+                case "name" -> {
+                    expect(p, value, JsonToken.VALUE_STRING, index, field, "a string");
+                    seen |= NAME;
+                }
+                case "price" -> {
+                    expect(p, value, JsonToken.VALUE_NUMBER_INT, index, field, "an integer");
+                    seen |= PRICE;
+                }
+                case "createdAt" -> {
+                    expect(p, value, JsonToken.VALUE_STRING, index, field, "a timestamp");
+                    if (!CreatedAt.isValid(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())) {
+                        throw invalid(p, index, field, "a timestamp like \"" + CreatedAt.EXAMPLE + "\"");
+                    }
+                    seen |= CREATED_AT;
+                }
+                case "statistics" -> {
+                    expect(p, value, JsonToken.START_OBJECT, index, field, "an object");
+                    statistics(p, index, "statistics.");
+                    seen |= STATISTICS;
+                }
+                default -> p.skipChildren();
+            }
+        }
+        if (seen != ITEM_FIELDS) {
+            throw missing(index, "", seen, "id", "sellerId", "name", "price", "createdAt", "statistics");
+        }
+    }
+
+    private static void statisticsArray(JsonParser p) throws IOException, Invalid {
+        expect(p, p.nextToken(), JsonToken.START_ARRAY, -1, "", "an array of statistics");
+        JsonToken token;
+        for (int index = 0; (token = p.nextToken()) != JsonToken.END_ARRAY; index++) {
+            expect(p, token, JsonToken.START_OBJECT, index, "", "a statistics object");
+            statistics(p, index, "");
+        }
+    }
+
+    /**
+     * Объект статистики; парсер стоит на его {@code START_OBJECT}.
+     */
+    private static void statistics(JsonParser p, int index, String prefix) throws IOException, Invalid {
+        int seen = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            int bit = switch (field) {
+                case "contacts" -> CONTACTS;
+                case "likes" -> LIKES;
+                case "viewCount" -> VIEW_COUNT;
+                default -> 0;
+            };
+            if (bit == 0) {
+                p.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.VALUE_NUMBER_INT || p.getLongValue() < 0) {
+                throw invalid(p, index, prefix + field, "a non-negative integer");
+            }
+            seen |= bit;
+        }
+        if (seen != STATISTICS_FIELDS) {
+            throw missing(index, prefix, seen, "contacts", "likes", "viewCount");
+        }
+    }
+
+    /**
+     * {@code {"result": {"message": "...", "messages": {} | null}, "status": "<код ответа>"}}.
+     */
+    private void errorEnvelope(JsonParser p, int status) throws IOException, Invalid {
+        expect(p, p.nextToken(), JsonToken.START_OBJECT, -1, "", "an error object");
+        boolean messageSeen = false;
+        boolean statusSeen = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("status".equals(field)) {
+                expect(p, value, JsonToken.VALUE_STRING, -1, field, "\"" + status + "\"");
+                if (parseInt(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()) != status) {
+                    throw invalid(p, -1, field, "\"" + status + "\"");
+                }
+                statusSeen = true;
+            } else if ("result".equals(field)) {
+                expect(p, value, JsonToken.START_OBJECT, -1, field, "an object");
+                messageSeen = result(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        if (!messageSeen || !statusSeen) {
+            throw new Invalid((messageSeen ? "status" : "result.message") + ": missing");
+        }
+    }
+
+    /**
+     * @return {@code true}, если встретилось {@code result.message}
+     */
+    private boolean result(JsonParser p) throws IOException, Invalid {
+        boolean seen = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("message".equals(field)) {
+                String expected = message == null ? "a string" : "\"" + new String(message) + "\"";
+                expect(p, value, JsonToken.VALUE_STRING, -1, "result.message", expected);
+                if (message != null && !regionEquals(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(),
+                        message)) {
+                    throw invalid(p, -1, "result.message", expected);
+                }
+                seen = true;
+            } else if ("messages".equals(field)) {
+                if (value != JsonToken.START_OBJECT && value != JsonToken.VALUE_NULL) {
+                    throw invalid(p, -1, "result.messages", "an object or null");
+                }
+                p.skipChildren();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return seen;
+    }
+
+    private static void expect(JsonParser p, JsonToken actual, JsonToken expected, int index, String field,
+                               String description) throws IOException, Invalid {
+        if (actual != expected) {
+            throw invalid(p, index, field, description);
+        }
+    }
+
+    private static Invalid invalid(JsonParser p, int index, String field, String expected) throws IOException {
+        JsonToken token = p.currentToken();
+        String actual;
+        if (token == null) {
+            actual = "end of body";
+        } else if (token == JsonToken.VALUE_STRING) {
+            actual = "\"" + truncate(p.getText()) + "\"";
+        } else if (token.isScalarValue()) {
+            actual = p.getText();
+        } else {
+            actual = token.asString() != null ? token.asString() : token.name();
+        }
+        return new Invalid(path(index, field) + ": expected " + expected + ", got " + actual);
+    }
+
+    private static Invalid missing(int index, String prefix, int seen, String... fields) {
+        StringBuilder missing = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if ((seen & (1 << i)) == 0) {
+                missing.append(missing.length() == 0 ? "" : ", ").append(prefix).append(fields[i]);
+            }
+        }
+        return new Invalid(path(index, "") + ": missing " + missing);
+    }
+
+    private static String path(int index, String field) {
+        String element = index < 0 ? "" : "[" + index + "]";
+        if (field.isEmpty()) {
+            return element.isEmpty() ? "$" : element;
+        }
+        return element.isEmpty() ? field : element + "." + field;
+    }
+
+    private static boolean regionEquals(char[] text, int offset, int length, char[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Неотрицательное число из десятичных цифр или -1.
+     */
+    private static int parseInt(char[] text, int offset, int length) {
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (text[i] < '0' || text[i] > '9') {
+                return -1;
+            }
+            value = value * 10 + text[i] - '0';
+        }
+        return value;
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= MAX_EXCERPT ? text : text.substring(0, MAX_EXCERPT) + "...";
+    }
+
+    private static String excerpt(byte[] body) {
+        if (body == null || body.length == 0) {
+            return "<empty>";
+        }
+        return truncate(new String(body, 0, Math.min(body.length, MAX_EXCERPT + 1), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.validation;
+
+/**
+ * Проверка идентификатора объявления: UUID в каноническом виде {@code 8-4-4-4-12} шестнадцатеричных цифр.
+ * Работает с буфером символов парсера JSON, без {@link java.util.UUID#fromString} и без выделений.
+ */
+public final class Uuids {
+    public static final int LENGTH = 36;
+
+    private Uuids() {
+    }
+
+    public static boolean isValid(CharSequence text) {
+        if (text.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (!valid(i, text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isValid(char[] buffer, int offset, int length) {
+        if (length != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (!valid(i, buffer[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean valid(int position, char c) {
+        if (position == 8 || position == 13 || position == 18 || position == 23) {
+            return c == '-';
+        }
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+}
@@ -0,0 +1,83 @@
+package org.example;
+
+import org.example.cases.ApiCase;
+import org.example.cases.CaseFile;
+import org.example.client.ApiClient;
+import org.example.journal.JournalExtension;
+import org.example.metrics.LatencyReportExtension;
+import org.example.traffic.TestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Табличные проверки из {@code cases/api.cases}: новая проверка — несколько строк в файле, без нового метода.
+ * <p>
+ * Динамические тесты одной фабрики JUnit выполняет последовательно, поэтому все проверки отправляются
+ * в пул заранее, а каждый динамический тест только ждёт свой результат. Время прогона матрицы
+ * определяется самым медленным запросом, а не суммой всех. Обмены каждой проверки попадают в журнал
+ * по итогу её динамического теста через {@link JournalExtension.Capture}.
+ */
+@ExtendWith({LatencyReportExtension.class, TestData.class, JournalExtension.class})
+public class ApiCasesTest {
+    private static final String CASES = "cases/api.cases";
+
+    @TestFactory
+    @DisplayName("Табличные проверки")
+    public Stream<DynamicTest> cases() {
+        List<ApiCase> cases = CaseFile.load(CASES);
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(ApiClient.POOL_SIZE, cases.size())), daemonThreads());
+        try {
+            List<DynamicTest> tests = new ArrayList<>(cases.size());
+            for (ApiCase apiCase : cases) {
+                // Значения подстановок берутся в потоке фабрики по порядку файла: при записи и
+                // воспроизведении трафика они совпадают независимо от порядка выполнения запросов
+                Map<String, String> variables = new HashMap<>();
+                variables.put("sellerId", String.valueOf(TestData.random().nextInt(100_000_000, Integer.MAX_VALUE)));
+                variables.put("uuid", TestData.uuid().toString());
+                JournalExtension.Capture journal = new JournalExtension.Capture();
+                CompletableFuture<Void> result = CompletableFuture.runAsync(
+                        () -> journal.run(() -> apiCase.run(variables)), executor);
+                tests.add(DynamicTest.dynamicTest(apiCase.displayName(),
+                        () -> await(result, journal, apiCase.displayName())));
+            }
+            return tests.stream();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CompletableFuture<Void> result, JournalExtension.Capture journal, String displayName)
+            throws Throwable {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            journal.flush(displayName, e.getCause());
+            throw e.getCause();
+        }
+        journal.flush(displayName, null);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "api-case-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,85 +1,83 @@
 package org.example;
 
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
-import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
-import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 import org.apache.http.HttpStatus;
-import org.example.config.Config;
+import org.example.api.Endpoint;
+import org.example.assertion.JsonMatchers;
+import org.example.assertion.StreamingJsonAssert;
+import org.example.client.ApiClient;
+import org.example.client.ItemSummary;
+import org.example.client.SellerItems;
+import org.example.journal.JournalExtension;
+import org.example.metrics.LatencyReportExtension;
+import org.example.model.CreateItemRequest;
+import org.example.model.ErrorResponse;
+import org.example.model.Item;
+import org.example.model.Json;
+import org.example.model.Statistics;
+import org.example.traffic.TestData;
+import org.example.validation.CreatedAt;
+import org.example.validation.ResponseValidator;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.junit.jupiter.api.Assertions.fail;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ExtendWith({LatencyReportExtension.class, TestData.class, JournalExtension.class})
 public class ApiTest {
-    private static final String ITEM_ENDPOINT = "/api/1/item/{id}";
-    private static final String EXISTING_ITEM_ID = "0cd4183f-a699-4486-83f8-b513dfde477a";
-    private static final int EXPECTED_SELLER_ID = 1234345231;
-    private static final String EXPECTED_ITEM_NAME = "dsdsd";
-    private static final int EXPECTED_PRICE = 1;
+    // Пути относительно basePath спецификаций ApiClient
+    private static final String ITEM_ENDPOINT = "/{id}";
+    private static final String STATISTIC_ENDPOINT = "/{id}";
+    private static final String SELLER_ITEMS_ENDPOINT = "/{sellerID}/item";
 
     private static final Logger log = LoggerFactory.getLogger(ApiTest.class); // Инициализация логгера
 
-    @BeforeAll
-    public static void setup() {
-        RestAssured.baseURI = Config.BASE_URL;
-    }
-
     /**
      * TC-01: Проверка получения объявления по его идентификатору
      */
     @Test
     @DisplayName("TC-01")
     public void getItemById_WithValidId_ShouldReturnItemDetails() {
-        // Given
-        RequestSpecification request = given()
-                .accept(ContentType.JSON)
-                .pathParam("id", EXISTING_ITEM_ID);
+        // Given: Тест создаёт собственное объявление
+        int sellerId = uniqueSellerId();
+        String itemName = "dsdsd";
+        int itemPrice = 1;
+        String itemId = createItem(sellerId, itemName, itemPrice, statistics(3, 123, 12));
+
+        RequestSpecification request = given(ApiClient.items())
+                .pathParam("id", itemId);
 
         // When
         Response response = request.when().get(ITEM_ENDPOINT);
 
-        // Then
-        ValidatableResponse vr = response.then()
+        // Then: Код ответа проверяет RestAssured, тело — потоковый парсер за один проход
+        response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_OK)
-                .body("", hasSize(1))
-                .body("[0].id", equalTo(EXISTING_ITEM_ID))
-                .body("[0].sellerId", equalTo(EXPECTED_SELLER_ID))
-                .body("[0].name", equalTo(EXPECTED_ITEM_NAME))
-                .body("[0].price", equalTo(EXPECTED_PRICE))
-                .body("[0].statistics", allOf(
-                        hasEntry("contacts", 3),
-                        hasEntry("likes", 123),
-                        hasEntry("viewCount", 12)
-                ));
-
-
-
-        // Soft assertions for additional validations
-        JsonPath jsonPath = vr.extract().jsonPath();
-        String createdAt = jsonPath.getString("[0].createdAt");
-
-        assertAll("Detailed item validations",
-                () -> assertThat(createdAt)
-                        .matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d+ \\+\\d+ \\+\\d+"),
-                () -> log.debug("Validated item: {}", jsonPath.getObject("[0]", Map.class))
-        );
+                .statusCode(HttpStatus.SC_OK);
+
+        StreamingJsonAssert.builder()
+                .size("", 1)
+                .value("[0].id", JsonMatchers.equalTo(itemId))
+                .value("[0].sellerId", JsonMatchers.equalTo(sellerId))
+                .value("[0].name", JsonMatchers.equalTo(itemName))
+                .value("[0].price", JsonMatchers.equalTo(itemPrice))
+                .value("[0].statistics.contacts", JsonMatchers.equalTo(3))
+                .value("[0].statistics.likes", JsonMatchers.equalTo(123))
+                .value("[0].statistics.viewCount", JsonMatchers.equalTo(12))
+                .value("[0].createdAt", JsonMatchers.createdAt())
+                .build()
+                .verify(response.asByteArray());
 
         log.info("Test TC-01 successfully passed!");
 
@@ -95,8 +93,7 @@ public class ApiTest {
         String invalidItemId = "nonexistent_id";
         String expectedErrorMessage = "передан некорректный идентификатор объявления";
 
-        RequestSpecification request = given()
-                .accept(ContentType.JSON)
+        RequestSpecification request = given(ApiClient.items())
                 .pathParam("id", invalidItemId);
 
         // When
@@ -105,15 +102,9 @@ public class ApiTest {
         // Then
         response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body(
-                        "result.message", equalTo(expectedErrorMessage),
-                        "result.messages", anEmptyMap(),
-                        "status", equalTo("400")
-                );
-
-        // Логирование для отладки
-        //  log.debug("Response for invalid ID {}: {}", invalidItemId, response.getBody().prettyPrint());
+                .statusCode(HttpStatus.SC_BAD_REQUEST);
+        assertError(response, expectedErrorMessage, Map.of(), "400");
+
         log.info("Test TC-02 successfully passed!");
     }
 
@@ -127,8 +118,7 @@ public class ApiTest {
         String malformedItemId = "invalid_id_123%"; // Пример некорректного ID
         String expectedErrorMessage = "передан некорректный идентификатор объявления";
 
-        RequestSpecification request = given()
-                .accept(ContentType.JSON)
+        RequestSpecification request = given(ApiClient.items())
                 .pathParam("id", malformedItemId);
 
         // When
@@ -137,15 +127,9 @@ public class ApiTest {
         // Then
         response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body(
-                        "result.message", equalTo(expectedErrorMessage),
-                        "result.messages", anEmptyMap(),
-                        "status", equalTo("400")
-                );
-
-        // Логирование для анализа
-       // log.info("Server response for malformed ID:\n{}", response.getBody().prettyPrint());
+                .statusCode(HttpStatus.SC_BAD_REQUEST);
+        assertError(response, expectedErrorMessage, Map.of(), "400");
+
         log.info("Test TC-03 successfully passed!");
     }
 
@@ -156,33 +140,25 @@ public class ApiTest {
     @DisplayName("TC-04")
     public void createItem_WithValidData_ShouldReturnSuccess() {
         // Given
-        int sellerId = 123456;
+        int sellerId = uniqueSellerId();
         String itemName = "Test name";
         int itemPrice = 120;
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("sellerID", sellerId);
-        requestBody.put("name", itemName);
-        requestBody.put("price", itemPrice);
+        CreateItemRequest requestBody = new CreateItemRequest(sellerId, itemName, itemPrice);
 
-        RequestSpecification request = given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .body(requestBody);
+        RequestSpecification request = given(ApiClient.items())
+                .body(Json.write(requestBody));
 
         // When
-        Response response = request.when().post("/api/1/item");
+        Response response = request.when().post();
 
 
         // Then
-        ValidatableResponse vr = response.then()
+        response.then()
                 .assertThat()
                 .statusCode(HttpStatus.SC_OK)
                 .body("status", startsWith("Сохранили объявление -"));
 
-        // Логирование созданного объявления
-        String statusMessage = vr.extract().path("status");
-       // log.info("Created item with status: {}", statusMessage);
         log.info("Test TC-04 successfully passed!");
     }
 
@@ -204,24 +180,18 @@ public class ApiTest {
         requestBody.put("price", itemPrice);
 
 
-        RequestSpecification request = given()
-                .contentType(ContentType.JSON) // Установка заголовка Content-Type
-                .accept(ContentType.JSON)
+        RequestSpecification request = given(ApiClient.items())
                 .body(requestBody); // Установка заголовка Accept
 
         // When: Отправка POST-запроса на создание объявления с пустым телом
-        Response response = request.when().post("/api/1/item");
+        Response response = request.when().post();
 
         // Then: Проверка результата
         response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_BAD_REQUEST) // Проверяем статус-код 400 Bad Request
-                .body("status", equalTo("не передан объект - объявление")) // Проверяем поле status
-                .body("result.message", equalTo("")) // Проверяем поле result.message
-                .body("result.messages", anEmptyMap()); // Проверяем, что result.messages является пустым объектом
+                .statusCode(HttpStatus.SC_BAD_REQUEST); // Проверяем статус-код 400 Bad Request
+        assertError(response, "", Map.of(), "не передан объект - объявление");
 
-        // Логирование фактического ответа
-      //  log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-05 successfully passed!");
     }
 
@@ -232,24 +202,20 @@ public class ApiTest {
     @DisplayName("TC-09")
     public void getItemById_WithNonexistentId_ShouldReturnNotFound() {
         // Given: Подготовка запроса с несуществующим ID
-        String nonexistentItemId = "0cd4183f-a699-4486-83f8-b513dfde477b";
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
+        String nonexistentItemId = TestData.uuid().toString(); // Случайный UUID, которого нет в сервисе
+        RequestSpecification request = given(ApiClient.items())
                 .pathParam("id", nonexistentItemId); // Передача параметра :id
 
         // When: Отправка GET-запроса на получение объявления по ID
-        Response response = request.when().get("/api/1/item/{id}");
+        Response response = request.when().get(ITEM_ENDPOINT);
 
         // Then: Проверка результата
-        ValidatableResponse vr = response.then()
+        response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_NOT_FOUND) // Проверяем статус-код 404 Not Found
-                .body("status", equalTo("404")) // Проверяем поле status
-                .body("result.message", equalTo("item " + nonexistentItemId + " not found")) // Проверяем сообщение об ошибке
-                .body("result.messages", nullValue()); // Проверяем, что result.messages равно null
+                .statusCode(HttpStatus.SC_NOT_FOUND); // Проверяем статус-код 404 Not Found
+        // У 404 поле messages равно null, у 400 — пустой объект
+        assertError(response, "item " + nonexistentItemId + " not found", null, "404");
 
-        // Логирование фактического ответа
-      //  log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-09 successfully passed!");
     }
 
@@ -259,27 +225,28 @@ public class ApiTest {
     @Test
     @DisplayName("TC-10")
     public void getStatisticByItemId_WithValidId_ShouldReturnStatistic() {
-        // Given: Подготовка запроса с существующим ID объявления
-        String existingItemId = "0cd4183f-a699-4486-83f8-b513dfde477a"; // Идентификатор существующего объявления
+        // Given: Создание объявления с известной статистикой
+        String existingItemId = createItem(uniqueSellerId(), "Statistic Test", 100, statistics(3, 246, 258));
 
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
+        RequestSpecification request = given(ApiClient.statistics())
                 .pathParam("id", existingItemId); // Передача параметра :id
 
         // When: Отправка GET-запроса на получение статистики по ID
-        Response response = request.when().get("/api/1/statistic/{id}");
+        Response response = request.when().get(STATISTIC_ENDPOINT);
 
         // Then: Проверка результата
-        ValidatableResponse vr = response.then()
+        response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_OK) // Проверяем статус-код 200 OK
-                .body("", hasSize(1)) // Проверяем, что массив содержит ровно один элемент
-                .body("[0].contacts", equalTo(3)) // Проверяем поле contacts
-                .body("[0].likes", equalTo(246)) // Проверяем поле likes
-                .body("[0].viewCount", equalTo(258)); // Проверяем поле viewCount
-
-        // Логирование фактического ответа
-       // log.info("Response Body: {}", response.getBody().prettyPrint());
+                .statusCode(HttpStatus.SC_OK); // Проверяем статус-код 200 OK
+
+        StreamingJsonAssert.builder()
+                .size("", 1) // Проверяем, что массив содержит ровно один элемент
+                .value("[0].contacts", JsonMatchers.equalTo(3)) // Проверяем поле contacts
+                .value("[0].likes", JsonMatchers.equalTo(246)) // Проверяем поле likes
+                .value("[0].viewCount", JsonMatchers.equalTo(258)) // Проверяем поле viewCount
+                .build()
+                .verify(response.asByteArray());
+
         log.info("Test TC-10 successfully passed!");
     }
 
@@ -290,24 +257,20 @@ public class ApiTest {
     @DisplayName("TC-11")
     public void getStatisticByItemId_WithNonexistentId_ShouldReturnNotFound() {
         // Given: Подготовка запроса с несуществующим ID объявления
-        String nonexistentItemId = "0cd4183f-a699-4486-83f8-b513dfde477b";
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
+        String nonexistentItemId = TestData.uuid().toString(); // Случайный UUID, которого нет в сервисе
+        RequestSpecification request = given(ApiClient.statistics())
                 .pathParam("id", nonexistentItemId); // Передача параметра :id
 
         // When: Отправка GET-запроса на получение статистики по ID
-        Response response = request.when().get("/api/1/statistic/{id}");
+        Response response = request.when().get(STATISTIC_ENDPOINT);
 
         // Then: Проверка результата
-        ValidatableResponse vr = response.then()
+        response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_NOT_FOUND) // Проверяем статус-код 404 Not Found
-                .body("status", equalTo("404")) // Проверяем поле status
-                .body("result.message", equalTo("statistic " + nonexistentItemId + " not found")) // Проверяем сообщение об ошибке
-                .body("result.messages", nullValue()); // Проверяем, что result.messages равно null
+                .statusCode(HttpStatus.SC_NOT_FOUND); // Проверяем статус-код 404 Not Found
+        // У 404 поле messages равно null, у 400 — пустой объект
+        assertError(response, "statistic " + nonexistentItemId + " not found", null, "404");
 
-        // Логирование фактического ответа
-       // log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-11 successfully passed!");
     }
 
@@ -320,27 +283,19 @@ public class ApiTest {
         // Given
         String invalidStatisticId = "invalid_id";
         String expectedErrorMessage = "передан некорректный идентификатор объявления";
-        String statisticEndpoint = "/api/1/statistic/{id}";
 
-        RequestSpecification request = given()
-                .accept(ContentType.JSON)
+        RequestSpecification request = given(ApiClient.statistics())
                 .pathParam("id", invalidStatisticId);
 
         // When
-        Response response = request.when().get(statisticEndpoint);
+        Response response = request.when().get(STATISTIC_ENDPOINT);
 
         // Then
         response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body(
-                        "result.message", equalTo(expectedErrorMessage),
-                        "result.messages", anEmptyMap(),
-                        "status", equalTo("400")
-                );
-
-        // Логирование для анализа
-        //log.info("Response for invalid statistic ID:\n{}", response.getBody().prettyPrint());
+                .statusCode(HttpStatus.SC_BAD_REQUEST);
+        assertError(response, expectedErrorMessage, Map.of(), "400");
+
         log.info("Test TC-12 successfully passed!");
     }
 
@@ -350,28 +305,35 @@ public class ApiTest {
     @Test
     @DisplayName("TC-13")
     public void getItemsBySellerId_WithValidSellerId_ShouldReturnItemsList() {
-        // Given: Подготовка запроса с существующим sellerID
-        String existingSellerId = "1234345231"; // Идентификатор существующего продавца
-
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
-                .pathParam("sellerID", existingSellerId); // Передача параметра :sellerID
-
-        // When: Отправка GET-запроса на получение всех объявлений по sellerID
-        Response response = request.when().get("/api/1/{sellerID}/item");
+        // Given: Создание продавца с двумя объявлениями
+        int sellerId = uniqueSellerId();
+        createItem(sellerId, "Seller Items Test", 150, statistics(1, 2, 3));
+        createItem(sellerId, "Seller Items Test 2", 300, statistics(0, 0, 7));
+
+        // When: Отправка GET-запроса на получение всех объявлений по sellerID. Список продавца может быть
+        // очень большим, поэтому объявления разбираются по одному по мере чтения ответа
+        try (SellerItems items = ApiClient.sellerItems(sellerId)) {
+            assertThat(items.status()).isEqualTo(HttpStatus.SC_OK); // Проверяем статус-код 200 OK
+
+            // Then: Проверка каждого элемента без сборки всего массива в памяти
+            items.items().forEach(item -> {
+                assertThat(item.sellerId()).as("sellerId of %s", item.id()).isEqualTo(sellerId);
+                assertThat(item.statistics().contacts()).as("contacts of %s", item.id()).isNotNegative();
+                assertThat(item.statistics().likes()).as("likes of %s", item.id()).isNotNegative();
+                assertThat(item.statistics().viewCount()).as("viewCount of %s", item.id()).isNotNegative();
+            });
+
+            // Агрегаты по всему ответу, собранные за тот же проход
+            ItemSummary summary = items.summary();
+            assertThat(items.complete()).isTrue();
+            assertThat(summary.count()).isEqualTo(2); // Продавец уникален: в списке только созданные объявления
+            assertThat(summary.viewCountSum()).isEqualTo(10);
+            assertThat(summary.minPrice()).hasValue(150);
+            assertThat(summary.maxPrice()).hasValue(300);
+            assertThat(summary.duplicateIds()).as("duplicate ids").isEmpty();
+            log.info("Seller {}: {}", sellerId, summary);
+        }
 
-        // Then: Проверка результата
-        ValidatableResponse vr = response.then()
-                .assertThat()
-                .statusCode(HttpStatus.SC_OK) // Проверяем статус-код 200 OK
-                .body("", not(empty())) // Проверяем, что массив не пустой
-                .body("[0].sellerId", equalTo(Integer.parseInt(existingSellerId))) // Проверяем sellerId первого объявления
-                .body("[0].statistics.contacts", greaterThanOrEqualTo(0)) // Проверяем contacts (неотрицательное значение)
-                .body("[0].statistics.likes", greaterThanOrEqualTo(0)) // Проверяем likes (неотрицательное значение)
-                .body("[0].statistics.viewCount", greaterThanOrEqualTo(0)); // Проверяем viewCount (неотрицательное значение)
-
-        // Дополнительная проверка: логирование фактического ответа
-        //log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-13 successfully passed!");
     }
 
@@ -382,23 +344,16 @@ public class ApiTest {
     @DisplayName("TC-14")
     public void getItemsBySellerId_WithExistingSellerButNoItems_ShouldReturnEmptyList() {
         // Given: Подготовка запроса с идентификатором существующего продавца без объявлений
-        String sellerIdWithoutItems = "1234345230"; // Идентификатор существующего продавца без объявлений
-
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
-                .pathParam("sellerID", sellerIdWithoutItems); // Передача параметра :sellerID
+        String sellerIdWithoutItems = String.valueOf(uniqueSellerId()); // Продавец, для которого тест не создавал объявлений
 
         // When: Отправка GET-запроса на получение всех объявлений по sellerID
-        Response response = request.when().get("/api/1/{sellerID}/item");
-
-        // Then: Проверка результата
-        ValidatableResponse vr = response.then()
-                .assertThat()
-                .statusCode(HttpStatus.SC_OK) // Проверяем статус-код 200 OK
-                .body("", equalTo(new ArrayList<>())); // Проверяем, что тело ответа — пустой массив []
+        try (SellerItems items = ApiClient.sellerItems(sellerIdWithoutItems)) {
+            // Then: Проверка результата
+            assertThat(items.status()).isEqualTo(HttpStatus.SC_OK); // Проверяем статус-код 200 OK
+            assertThat(items.items()).isEmpty(); // Проверяем, что тело ответа — пустой массив []
+            assertThat(items.complete()).isTrue();
+        }
 
-        // Логирование фактического ответа
-       // log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-14 successfully passed!");
     }
 
@@ -411,23 +366,18 @@ public class ApiTest {
         // Given: Подготовка запроса с некорректным sellerID
         String invalidSellerId = "not_a_number"; // Некорректный идентификатор продавца
 
-        RequestSpecification request = given()
-                .header("Accept", "application/json") // Установка заголовка Accept
+        RequestSpecification request = given(ApiClient.sellers())
                 .pathParam("sellerID", invalidSellerId); // Передача параметра :sellerID
 
         // When: Отправка GET-запроса на получение всех объявлений по sellerID
-        Response response = request.when().get("/api/1/{sellerID}/item");
+        Response response = request.when().get(SELLER_ITEMS_ENDPOINT);
 
         // Then: Проверка результата
-        ValidatableResponse vr = response.then()
+        response.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_BAD_REQUEST) // Проверяем статус-код 400 Bad Request
-                .body("status", equalTo("400")) // Проверяем поле status
-                .body("result.message", equalTo("передан некорректный идентификатор продавца")) // Проверяем сообщение об ошибке
-                .body("result.messages", anEmptyMap()); // Проверяем, что result.messages является пустым объектом {}
+                .statusCode(HttpStatus.SC_BAD_REQUEST); // Проверяем статус-код 400 Bad Request
+        assertError(response, "передан некорректный идентификатор продавца", Map.of(), "400");
 
-        // Логирование фактического ответа
-       // log.info("Response Body: {}", response.getBody().prettyPrint());
         log.info("Test TC-16 successfully passed!");
     }
 
@@ -438,51 +388,35 @@ public class ApiTest {
     @DisplayName("TC-22")
     public void createDuplicateItems_ShouldReturnUniqueIds() {
         // Given: Подготовка данных для создания объявления
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("sellerID", 123456);
-        requestBody.put("name", "Duplicate Test");
-        requestBody.put("price", 120);
-        Map<String, Integer> statistics = new HashMap<>();
-        statistics.put("contacts", 2);
-        statistics.put("likes", 10);
-        statistics.put("viewCount", 50);
-        requestBody.put("statistics", statistics);
-
-        RequestSpecification request = given()
-                .header("Content-Type", "application/json") // Установка заголовка Content-Type
-                .header("Accept", "application/json") // Установка заголовка Accept
-                .body(requestBody); // Тело запроса
+        CreateItemRequest requestBody = new CreateItemRequest(uniqueSellerId(), "Duplicate Test", 120,
+                statistics(2, 10, 50));
+
+        RequestSpecification request = given(ApiClient.items())
+                .body(Json.write(requestBody)); // Тело запроса
 
         // When: Отправка первого POST-запроса на создание объявления
-        Response response1 = request.when().post("/api/1/item");
+        Response response1 = request.when().post();
 
         // Then: Проверка результата для первого ответа
-        String statusMessage1 = response1.then()
+        response1.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_OK) // Проверяем статус-код 200 OK
-                .extract()
-                .path("status"); // Извлекаем поле status
+                .statusCode(HttpStatus.SC_OK); // Проверяем статус-код 200 OK
 
         // Когда: Отправка второго POST-запроса с теми же данными
-        Response response2 = request.when().post("/api/1/item");
+        Response response2 = request.when().post();
 
         // Тогда: Проверка результата для второго ответа
-        String statusMessage2 = response2.then()
+        response2.then()
                 .assertThat()
-                .statusCode(HttpStatus.SC_OK) // Проверяем статус-код 200 OK
-                .extract()
-                .path("status"); // Извлекаем поле status
+                .statusCode(HttpStatus.SC_OK); // Проверяем статус-код 200 OK
 
         // Проверка уникальности идентификаторов
-        String id1 = extractItemIdFromStatus(statusMessage1); // Извлекаем ID из первого ответа
-        String id2 = extractItemIdFromStatus(statusMessage2); // Извлекаем ID из второго ответа
+        String id1 = Json.readCreateItemResponse(response1.asByteArray()).itemId(); // ID из первого ответа
+        String id2 = Json.readCreateItemResponse(response2.asByteArray()).itemId(); // ID из второго ответа
 
         // Убеждаемся, что ID различаются
         assertThat(id1).isNotEqualTo(id2); // Проверяем, что ID не совпадают
 
-        // Логирование фактических результатов
-      //  log.info("First item ID: {}", id1);
-       // log.info("Second item ID: {}", id2);
         log.info("Test TC-22 successfully passed!");
     }
 
@@ -493,63 +427,81 @@ public class ApiTest {
     @DisplayName("TC-23")
     public void checkCreatedAtFormat() {
         // Given: Создание объявления через POST /api/1/item
-        int sellerId = 123456;
+        int sellerId = uniqueSellerId();
         String name = "Test CreatedAt Format";
         int price = 100;
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("sellerID", sellerId);
-        requestBody.put("name", name);
-        requestBody.put("price", price);
+        CreateItemRequest requestBody = new CreateItemRequest(sellerId, name, price);
 
-        Response createResponse = given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
-                .body(requestBody)
+        Response createResponse = given(ApiClient.items())
+                .body(Json.write(requestBody))
                 .when()
-                .post("/api/1/item");
+                .post();
 
         // Извлечение ID созданного объявления из статуса ответа
-        String statusMessage = createResponse.then()
+        createResponse.then()
                 .assertThat()
-                .statusCode(200) // Убедимся, что создание прошло успешно
-                .extract()
-                .path("status");
+                .statusCode(200); // Убедимся, что создание прошло успешно
 
-        String itemId = extractItemIdFromStatus(statusMessage); // Метод для извлечения ID из строки status
+        String itemId = Json.readCreateItemResponse(createResponse.asByteArray()).itemId();
 
         // When: Отправка GET-запроса на получение объявления по его ID
-        Response getResponse = given()
-                .header("Accept", "application/json")
+        Response getResponse = given(ApiClient.items())
                 .pathParam("id", itemId)
                 .when()
-                .get("/api/1/item/{id}");
+                .get(ITEM_ENDPOINT);
 
         // Then: Проверка формата поля createdAt
-        String createdAt = getResponse.then()
+        getResponse.then()
                 .assertThat()
-                .statusCode(200) // Проверяем статус-код 200 OK
-                .extract()
-                .path("[0].createdAt"); // Извлекаем значение createdAt
+                .statusCode(200); // Проверяем статус-код 200 OK
 
-        // Определяем регулярное выражение для проверки формата даты
-        Pattern datePattern = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d+ \\+\\d{4} \\+\\d{4}");
+        byte[] body = getResponse.asByteArray();
+        ResponseValidator.forEndpoint(Endpoint.GET_ITEM).verify(getResponse.statusCode(), body); // Контракт ответа
+        List<Item> items = Json.readItems(body);
+        assertThat(items).hasSize(1);
+        String createdAt = items.get(0).createdAt(); // Извлекаем значение createdAt
 
-        // Проверяем, что формат соответствует ожидаемому
-        assertThat(createdAt).matches(datePattern);
-        //assertThat("Field 'createdAt' has incorrect format", createdAt, matchesPattern(datePattern));
+        // Проверяем формат разбором без регулярного выражения: заодно проверяются диапазоны полей даты и времени
+        assertThat(CreatedAt.isValid(createdAt))
+                .as("createdAt %s should look like %s", createdAt, CreatedAt.EXAMPLE)
+                .isTrue();
 
-        // Логирование фактического значения createdAt
         log.info("Test TC-23 successfully passed!");
     }
 
     /**
-     * Метод для извлечения идентификатора объявления из поля status.
+     * Создаёт объявление через POST /api/1/item и возвращает его идентификатор.
+     * Каждый тест работает только со своими объявлениями, поэтому тесты можно запускать параллельно.
      */
-    private String extractItemIdFromStatus(String statusMessage) {
-        if (statusMessage == null || !statusMessage.contains("-")) {
-            fail("Invalid status message format: " + statusMessage);
-        }
-        return statusMessage.split(" - ")[1].trim(); // Возвращаем часть после "Сохранили объявление -"
+    private String createItem(int sellerId, String name, int price, Statistics statistics) {
+        Response response = given(ApiClient.items())
+                .body(Json.write(new CreateItemRequest(sellerId, name, price, statistics)))
+                .when()
+                .post();
+        response.then().statusCode(HttpStatus.SC_OK);
+        return Json.readCreateItemResponse(response.asByteArray()).itemId();
+    }
+
+    /**
+     * Конверт ошибки целиком, через модель {@link ErrorResponse}: лишнее или недостающее поле тоже ошибка.
+     *
+     * @param messages {@code Map.of()} для {@code "messages": {}}, {@code null} для {@code "messages": null}
+     */
+    private static void assertError(Response response, String message, Map<String, Object> messages,
+                                    String status) {
+        assertThat(Json.readError(response.asByteArray()))
+                .isEqualTo(new ErrorResponse(new ErrorResponse.Result(message, messages), status));
+    }
+
+    private static Statistics statistics(int contacts, int likes, int viewCount) {
+        return new Statistics(contacts, likes, viewCount);
+    }
+
+    /**
+     * Случайный sellerID, чтобы параллельные тесты не пересекались по данным продавца.
+     */
+    private static int uniqueSellerId() {
+        return TestData.random().nextInt(100_000_000, Integer.MAX_VALUE);
     }
 }
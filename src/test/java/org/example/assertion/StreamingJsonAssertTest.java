@@ -0,0 +1,77 @@
+package org.example.assertion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.assertion.JsonMatchers.equalTo;
+import static org.example.assertion.JsonMatchers.greaterThanOrEqualTo;
+import static org.example.assertion.JsonMatchers.nullValue;
+
+public class StreamingJsonAssertTest {
+    private static final String ITEMS = "[{\"id\":\"a\",\"price\":1,\"statistics\":{\"likes\":5}},"
+            + "{\"id\":\"b\",\"price\":-3,\"statistics\":{\"likes\":7}}]";
+    private static final String ERROR = "{\"result\":{\"message\":\"item x not found\",\"messages\":null},"
+            + "\"status\":\"404\"}";
+
+    @Test
+    @DisplayName("Значения, размеры и пустые объекты проверяются за один проход")
+    public void check_WithMatchingBody_ShouldReturnNoFailures() throws IOException {
+        StreamingJsonAssert expectations = StreamingJsonAssert.builder()
+                .size("", 2)
+                .value("[0].id", equalTo("a"))
+                .value("[1].statistics.likes", equalTo(7))
+                .size("[0].statistics", 1)
+                .build();
+
+        assertThat(expectations.check(bytes(ITEMS))).isEmpty();
+        assertThat(StreamingJsonAssert.builder()
+                .value("status", equalTo("404"))
+                .value("result.messages", nullValue())
+                .build()
+                .check(bytes(ERROR))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Проверка каждого элемента сообщает индекс неподходящего элемента")
+    public void check_WithWildcardPath_ShouldReportEveryFailingElement() throws IOException {
+        StreamingJsonAssert expectations = StreamingJsonAssert.builder()
+                .value("[*].price", greaterThanOrEqualTo(0))
+                .build();
+
+        assertThat(expectations.check(bytes(ITEMS))).containsExactly("[1].price: expected a number >= 0 but was -3");
+    }
+
+    @Test
+    @DisplayName("Отсутствующий путь и несовпадение типа — ошибки")
+    public void check_WithMissingPathOrWrongType_ShouldFail() throws IOException {
+        StreamingJsonAssert expectations = StreamingJsonAssert.builder()
+                .value("[0].name", equalTo("x"))
+                .value("[0].statistics", equalTo(1))
+                .emptyObject("[1].statistics")
+                .build();
+
+        assertThat(expectations.check(bytes(ITEMS))).containsExactly(
+                "[0].statistics: expected 1 but was an object",
+                "[1].statistics: expected an empty object but size was 1",
+                "[0].name: no value at path");
+    }
+
+    @Test
+    @DisplayName("verify бросает AssertionError со списком несовпадений")
+    public void verify_WithMismatch_ShouldThrowAssertionError() {
+        StreamingJsonAssert expectations = StreamingJsonAssert.builder().size("", 0).build();
+
+        assertThatThrownBy(() -> expectations.verify(bytes(ITEMS)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(": expected size 0 but size was 2");
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
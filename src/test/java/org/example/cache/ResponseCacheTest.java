@@ -0,0 +1,53 @@
+package org.example.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest {
+
+    @Test
+    @DisplayName("Вытесняется давно не использованная запись, счётчики считают попадания и промахи")
+    public void put_ShouldEvictLeastRecentlyUsed() {
+        ResponseCache cache = new ResponseCache(2, 1 << 20, Duration.ofMinutes(1));
+        cache.put("/item/1", entry("{\"id\":1}"));
+        cache.put("/item/2", entry("{\"id\":2}"));
+        assertThat(cache.get("/item/1")).isNotNull();
+
+        cache.put("/item/3", entry("{\"id\":3}"));
+
+        assertThat(cache.get("/item/2")).isNull();
+        assertThat(cache.get("/item/1")).isNotNull();
+        assertThat(cache.get("/item/3")).isNotNull();
+        assertThat(cache.stats()).isEqualTo(new ResponseCache.Stats(3, 1, 1, 2, 30));
+    }
+
+    @Test
+    @DisplayName("Кеш не превышает лимит по байтам, а запись с истёкшим сроком считается промахом")
+    public void get_ShouldRespectByteBoundAndTtl() {
+        AtomicLong now = new AtomicLong();
+        ResponseCache cache = new ResponseCache(100, 40, Duration.ofSeconds(10), now::get);
+        cache.put("a", entry("x".repeat(20)));
+        cache.put("b", entry("y".repeat(20)));
+        cache.put("huge", entry("z".repeat(100)));
+
+        assertThat(cache.stats().bytes()).isEqualTo(21);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("huge")).isNull();
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get("b")).isNotNull();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.stats().entries()).isZero();
+        assertThat(cache.stats().bytes()).isZero();
+    }
+
+    private static ResponseCache.Entry entry(String body) {
+        return new ResponseCache.Entry(200, "application/json", body.getBytes());
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.cases;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.example.api.Endpoint;
+import org.example.assertion.StreamingJsonAssert;
+import org.example.client.ApiClient;
+import org.example.model.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Одна табличная проверка из {@code .cases}-файла: необязательное создание объявления,
+ * запрос к эндпоинту, ожидаемый код ответа и проверки тела.
+ * <p>
+ * Проверки без подстановок собираются в {@link StreamingJsonAssert} один раз при загрузке файла;
+ * остальные — при каждом прогоне, когда известны значения {@code {sellerId}}, {@code {uuid}} и {@code {itemId}}.
+ */
+public final class ApiCase {
+    static final Pattern PLACEHOLDER = Pattern.compile("\\{(sellerId|uuid|itemId)}");
+
+    private final String id;
+    private final String title;
+    private final String given;
+    private final Endpoint endpoint;
+    private final String param;
+    private final String body;
+    private final int expectedStatus;
+    private final List<Check> checks;
+    private final StreamingJsonAssert compiled;
+
+    ApiCase(String id, String title, String given, Endpoint endpoint, String param, String body,
+            int expectedStatus, List<Check> checks) {
+        this.id = id;
+        this.title = title;
+        this.given = given;
+        this.endpoint = endpoint;
+        this.param = param;
+        this.body = body;
+        this.expectedStatus = expectedStatus;
+        this.checks = List.copyOf(checks);
+        this.compiled = checks.stream().anyMatch(Check::parameterized) ? null : assertion(Map.of());
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String displayName() {
+        return "[" + id + "] " + title;
+    }
+
+    /**
+     * Выполняет проверку с заданными значениями подстановок; {@code {itemId}} добавляется после создания объявления.
+     *
+     * @throws AssertionError если ответ не совпал с ожиданием
+     */
+    public void run(Map<String, String> variables) {
+        if (given != null) {
+            Response created = send(Endpoint.CREATE_ITEM, null, substitute(given, variables));
+            if (created.getStatusCode() != 200) {
+                throw new AssertionError(id + ": item setup failed with status " + created.getStatusCode()
+                        + ": " + created.asString());
+            }
+            variables.put("itemId", Json.readCreateItemResponse(created.asByteArray()).itemId());
+        }
+
+        Response response = send(endpoint, param == null ? null : substitute(param, variables),
+                body == null ? null : substitute(body, variables));
+        if (response.getStatusCode() != expectedStatus) {
+            throw new AssertionError(id + ": expected status " + expectedStatus + " but was "
+                    + response.getStatusCode() + ": " + response.asString());
+        }
+        (compiled != null ? compiled : assertion(variables)).verify(response.asByteArray());
+    }
+
+    private StreamingJsonAssert assertion(Map<String, String> variables) {
+        StreamingJsonAssert.Builder builder = StreamingJsonAssert.builder();
+        for (Check check : checks) {
+            check.apply(builder, variables);
+        }
+        return builder.build();
+    }
+
+    private static Response send(Endpoint endpoint, String param, String body) {
+        RequestSpecification request = given(ApiClient.api());
+        if (param != null) {
+            String template = endpoint.template();
+            request.pathParam(template.substring(template.indexOf('{') + 1, template.indexOf('}')), param);
+        }
+        if (body != null) {
+            request.body(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return request.request(endpoint.method(), endpoint.template());
+    }
+
+    static String substitute(String template, Map<String, String> variables) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        return matcher.replaceAll(m -> Matcher.quoteReplacement(variables.get(m.group(1))));
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.cases;
+
+import org.example.api.Endpoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Загрузка табличных проверок из {@code .cases}-файла в ресурсах тестов.
+ * <pre>
+ *   # комментарий
+ *   [TC-10] Получение статистики существующего объявления
+ *   given CREATE_ITEM {"sellerID": {sellerId}, "name": "x", "price": 1}
+ *   GET_STATISTIC {itemId}
+ *   expect 200
+ *   $ size 1
+ *   [0].likes = 0
+ * </pre>
+ * Проверка начинается строкой {@code [ID] название}. Запрос — имя {@link Endpoint}, параметр пути
+ * (для эндпоинтов с параметром) и необязательное тело до конца строки. {@code given} создаёт объявление
+ * до запроса и делает доступным {@code {itemId}}. Строки проверок тела — путь в синтаксисе
+ * {@link org.example.assertion.StreamingJsonAssert} ({@code $} — корень) и оператор:
+ * {@code = <JSON>} (строка, число, boolean, null, {@code {}} или {@code []}), {@code ^= "префикс"},
+ * {@code ~ regex}, {@code >= N}, {@code size N}, {@code notEmpty}.
+ * <p>
+ * Подстановки: {@code {sellerId}} и {@code {uuid}} — свои случайные значения для каждой проверки,
+ * {@code {itemId}} — объявление из {@code given}, {@code {A*256}} — строка из 256 символов {@code A}.
+ */
+public final class CaseFile {
+    private static final Pattern HEADER = Pattern.compile("\\[([A-Za-z][\\w-]*)](?:\\s+(.*))?");
+    private static final Pattern REPEAT = Pattern.compile("\\{([^{}\"\\s*]+)\\*(\\d+)}");
+
+    private CaseFile() {
+    }
+
+    /**
+     * Читает и компилирует все проверки файла из classpath.
+     *
+     * @throws IllegalArgumentException с номером строки, если файл составлен неверно
+     */
+    public static List<ApiCase> load(String resource) {
+        InputStream in = CaseFile.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Case file not found on classpath: " + resource);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<ApiCase> cases = new ArrayList<>();
+            Set<String> ids = new HashSet<>();
+            Block block = null;
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    Matcher header = HEADER.matcher(line);
+                    if (header.matches()) {
+                        if (block != null) {
+                            cases.add(block.build());
+                        }
+                        if (!ids.add(header.group(1))) {
+                            throw new IllegalArgumentException("duplicate case id " + header.group(1));
+                        }
+                        block = new Block(header.group(1), header.group(2) == null ? "" : header.group(2), lineNumber);
+                    } else if (block == null) {
+                        throw new IllegalArgumentException("expected a [ID] header");
+                    } else {
+                        block.add(expandRepeats(line));
+                    }
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException(resource + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+            if (block != null) {
+                try {
+                    cases.add(block.build());
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException(resource + ":" + block.line + ": " + e.getMessage(), e);
+                }
+            }
+            return cases;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+
+    private static String expandRepeats(String line) {
+        return REPEAT.matcher(line).replaceAll(m ->
+                Matcher.quoteReplacement(m.group(1).repeat(Integer.parseInt(m.group(2)))));
+    }
+
+    /**
+     * Строки одной проверки до следующего заголовка.
+     */
+    private static final class Block {
+        private final String id;
+        private final String title;
+        private final int line;
+        private String given;
+        private Endpoint endpoint;
+        private String param;
+        private String body;
+        private int expectedStatus = -1;
+        private final List<Check> checks = new ArrayList<>();
+        private boolean usesItemId;
+
+        Block(String id, String title, int line) {
+            this.id = id;
+            this.title = title;
+            this.line = line;
+        }
+
+        void add(String line) {
+            String[] parts = line.split("\\s+", 3);
+            String first = parts[0];
+            if (first.equals("given")) {
+                if (parts.length < 3 || !parts[1].equals(Endpoint.CREATE_ITEM.name())) {
+                    throw new IllegalArgumentException("expected 'given CREATE_ITEM <body>'");
+                }
+                given = parts[2];
+            } else if (first.equals("expect")) {
+                expectedStatus = Integer.parseInt(parts[1]);
+            } else if (isEndpoint(first)) {
+                if (endpoint != null) {
+                    throw new IllegalArgumentException("case " + id + " already has a request");
+                }
+                endpoint = Endpoint.valueOf(first);
+                String rest = line.substring(first.length()).strip();
+                if (endpoint.template().contains("{")) {
+                    if (rest.isEmpty()) {
+                        throw new IllegalArgumentException(first + " needs a path parameter");
+                    }
+                    int space = rest.indexOf(' ');
+                    param = space < 0 ? rest : rest.substring(0, space);
+                    rest = space < 0 ? "" : rest.substring(space + 1).strip();
+                }
+                body = rest.isEmpty() ? null : rest;
+                usesItemId |= usesItemId(param) || usesItemId(body);
+            } else {
+                if (parts.length < 2) {
+                    throw new IllegalArgumentException("expected '<path> <operator> [operand]'");
+                }
+                String operand = parts.length == 3 ? parts[2] : null;
+                checks.add(new Check(first, Check.Op.of(parts[1]), operand));
+                usesItemId |= usesItemId(operand);
+            }
+        }
+
+        ApiCase build() {
+            if (endpoint == null) {
+                throw new IllegalArgumentException("case " + id + " has no request");
+            }
+            if (expectedStatus < 0) {
+                throw new IllegalArgumentException("case " + id + " has no 'expect <status>'");
+            }
+            if (usesItemId && given == null) {
+                throw new IllegalArgumentException("case " + id + " uses {itemId} without 'given'");
+            }
+            return new ApiCase(id, title, given, endpoint, param, body, expectedStatus, checks);
+        }
+
+        private static boolean isEndpoint(String token) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                if (endpoint.name().equals(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean usesItemId(String value) {
+            return value != null && value.contains("{itemId}");
+        }
+    }
+}
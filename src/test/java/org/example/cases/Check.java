@@ -0,0 +1,128 @@
+package org.example.cases;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.assertion.JsonMatchers;
+import org.example.assertion.StreamingJsonAssert;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Проверка тела ответа из строки {@code .cases}-файла: путь, оператор и операнд.
+ * <p>
+ * Операнд без подстановок разбирается и превращается в {@link JsonMatchers.ValueMatcher} при загрузке,
+ * регулярное выражение компилируется один раз.
+ */
+final class Check {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    enum Op {
+        EQUALS("="), STARTS_WITH("^="), MATCHES("~"), AT_LEAST(">="), SIZE("size"), NOT_EMPTY("notEmpty");
+
+        private final String token;
+
+        Op(String token) {
+            this.token = token;
+        }
+
+        static Op of(String token) {
+            for (Op op : values()) {
+                if (op.token.equals(token)) {
+                    return op;
+                }
+            }
+            throw new IllegalArgumentException("unknown operator '" + token + "'");
+        }
+    }
+
+    private final String path;
+    private final Op op;
+    private final String operand;
+    private final boolean parameterized;
+    private final Pattern pattern;
+    private final JsonNode literal;
+
+    Check(String path, Op op, String operand) {
+        this.path = "$".equals(path) ? "" : path;
+        this.op = op;
+        this.operand = operand;
+        this.parameterized = operand != null && ApiCase.PLACEHOLDER.matcher(operand).find();
+        if (op == Op.NOT_EMPTY ? operand != null : operand == null) {
+            throw new IllegalArgumentException("operator '" + op.token + "' "
+                    + (operand == null ? "needs an operand" : "takes no operand"));
+        }
+        if (parameterized && op == Op.MATCHES) {
+            throw new IllegalArgumentException("placeholders are not supported in regular expressions");
+        }
+        this.pattern = op == Op.MATCHES ? Pattern.compile(operand) : null;
+        this.literal = parameterized || op == Op.MATCHES || op == Op.NOT_EMPTY ? null : literal(operand);
+        if (!parameterized) {
+            // Ошибки типа операнда видны при загрузке файла, а не во время прогона
+            apply(StreamingJsonAssert.builder(), Map.of());
+        }
+    }
+
+    boolean parameterized() {
+        return parameterized;
+    }
+
+    void apply(StreamingJsonAssert.Builder builder, Map<String, String> variables) {
+        JsonNode value = parameterized ? literal(ApiCase.substitute(operand, variables)) : literal;
+        switch (op) {
+            case EQUALS -> {
+                if (value.isObject() && value.isEmpty()) {
+                    builder.emptyObject(path);
+                } else if (value.isArray() && value.isEmpty()) {
+                    builder.size(path, 0);
+                } else {
+                    builder.value(path, scalar(value));
+                }
+            }
+            case STARTS_WITH -> builder.value(path, JsonMatchers.startsWith(text(value)));
+            case MATCHES -> builder.value(path, JsonMatchers.matchesPattern(pattern));
+            case AT_LEAST -> builder.value(path, JsonMatchers.greaterThanOrEqualTo(number(value)));
+            case SIZE -> builder.size(path, Math.toIntExact(number(value)));
+            case NOT_EMPTY -> builder.notEmpty(path);
+        }
+    }
+
+    private static JsonMatchers.ValueMatcher scalar(JsonNode value) {
+        if (value.isTextual()) {
+            return JsonMatchers.equalTo(value.textValue());
+        }
+        if (value.isIntegralNumber()) {
+            return JsonMatchers.equalTo(value.longValue());
+        }
+        if (value.isBoolean()) {
+            return JsonMatchers.equalTo(value.booleanValue());
+        }
+        if (value.isNull()) {
+            return JsonMatchers.nullValue();
+        }
+        throw new IllegalArgumentException("expected a string, integer, boolean, null, {} or [], got " + value);
+    }
+
+    private static String text(JsonNode value) {
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("expected a string, got " + value);
+        }
+        return value.textValue();
+    }
+
+    private static long number(JsonNode value) {
+        if (!value.isIntegralNumber()) {
+            throw new IllegalArgumentException("expected an integer, got " + value);
+        }
+        return value.longValue();
+    }
+
+    private static JsonNode literal(String operand) {
+        try {
+            return MAPPER.readTree(operand);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("invalid JSON literal: " + operand);
+        }
+    }
+}
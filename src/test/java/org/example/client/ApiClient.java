@@ -0,0 +1,199 @@
+package org.example.client;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.example.api.Endpoint;
+import org.example.config.Config;
+import org.example.journal.Journal;
+import org.example.journal.JournalExtension;
+import org.example.journal.JournalFilter;
+import org.example.metrics.LatencyFilter;
+import org.example.metrics.LatencyRegistry;
+import org.example.metrics.LatencyReportExtension;
+import org.example.stub.ItemServiceStub;
+import org.example.traffic.TrafficFilter;
+import org.example.traffic.TrafficLog;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+
+/**
+ * Общий клиентский слой тестов: один пул keep-alive соединений на весь прогон
+ * и заранее собранные спецификации запросов для эндпоинтов сервиса.
+ * <p>
+ * RestAssured создаёт новый {@code HttpClient} на каждый запрос, но все они берут соединения
+ * из общего {@link PoolingClientConnectionManager}, поэтому тысячи запросов идут через
+ * несколько прогретых соединений. Размер пула и таймауты берутся из {@link Config}.
+ * <p>
+ * Транспорт RestAssured (Apache HttpClient 4) поддерживает только HTTP/1.1;
+ * HTTP/2 используется в нагрузочных режимах, см. {@link HttpClients}.
+ */
+@SuppressWarnings("deprecation")
+public final class ApiClient {
+    public static final int POOL_SIZE = Config.get().poolSize();
+
+    private static final PoolingClientConnectionManager CONNECTIONS = new PoolingClientConnectionManager();
+
+    private static final RestAssuredConfig CONFIG;
+    private static final String BASE_URI;
+    private static final RequestSpecification ITEMS;
+    private static final RequestSpecification STATISTICS;
+    private static final RequestSpecification SELLERS;
+    private static final RequestSpecification API;
+    private static final TrafficFilter TRAFFIC;
+    private static final Journal JOURNAL;
+
+    static {
+        CONNECTIONS.setMaxTotal(POOL_SIZE);
+        CONNECTIONS.setDefaultMaxPerRoute(POOL_SIZE);
+        Config config = Config.get();
+        CONFIG = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> new DefaultHttpClient(CONNECTIONS))
+                .setParam("http.connection.timeout", (int) config.connectTimeout().toMillis())
+                .setParam("http.socket.timeout", (int) config.requestTimeout().toMillis()));
+
+        // При воспроизведении трафика сервис не нужен: ответы берутся из журнала
+        BASE_URI = config.useStub() && !config.replayTraffic() ? startStub() : config.baseUrl();
+        TRAFFIC = trafficFilter(config);
+        JOURNAL = journal();
+        ITEMS = baseSpec("/api/1/item");
+        STATISTICS = baseSpec("/api/1/statistic");
+        SELLERS = baseSpec("/api/1");
+        API = baseSpec("");
+    }
+
+    private ApiClient() {
+    }
+
+    /**
+     * {@code /api/1/item}: создание ({@code ""}) и получение ({@code "/{id}"}) объявления.
+     */
+    public static RequestSpecification items() {
+        return ITEMS;
+    }
+
+    /**
+     * {@code /api/1/statistic}: статистика объявления ({@code "/{id}"}).
+     */
+    public static RequestSpecification statistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * {@code /api/1}: объявления продавца ({@code "/{sellerID}/item"}).
+     */
+    public static RequestSpecification sellers() {
+        return SELLERS;
+    }
+
+    /**
+     * Корень сервиса: путь запроса — полный шаблон эндпоинта, например {@code Endpoint.GET_ITEM.template()}.
+     */
+    public static RequestSpecification api() {
+        return API;
+    }
+
+    /**
+     * Потоковое чтение объявлений продавца, см. {@link SellerItems}. Задержка запроса — до закрытия ответа —
+     * попадает в отчёт о задержках, как и у спецификаций.
+     * <p>
+     * Запрос идёт через JDK {@link HttpClient}: ответ RestAssured всегда целиком буферизуется в памяти.
+     * Исключение — запись и воспроизведение трафика: они работают фильтром RestAssured, поэтому в этом режиме
+     * запрос идёт через {@link #sellers()} и разбирается из буфера.
+     */
+    public static SellerItems sellerItems(Object sellerId) {
+        String template = Endpoint.LIST_BY_SELLER.template();
+        if (TRAFFIC != null) {
+            Response response = RestAssured.given(SELLERS)
+                    .pathParam("sellerID", sellerId)
+                    .get("/{sellerID}/item");
+            return SellerItems.of(response.statusCode(), response.asInputStream());
+        }
+        LatencyRegistry registry = LatencyReportExtension.registry();
+        long start = System.nanoTime();
+        try {
+            SellerItems items = SellerItems.fetch(Streaming.CLIENT, BASE_URI, sellerId,
+                    Config.get().requestTimeout());
+            return items.onClose(() -> registry.record(template, items.status(), System.nanoTime() - start));
+        } catch (IOException e) {
+            registry.record(template, LatencyRegistry.NO_RESPONSE, System.nanoTime() - start);
+            throw new UncheckedIOException("GET " + Endpoint.LIST_BY_SELLER.path(sellerId) + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted waiting for seller items"));
+        }
+    }
+
+    /**
+     * Клиент потокового чтения создаётся при первом обращении: большинству прогонов он не нужен.
+     */
+    private static final class Streaming {
+        static final HttpClient CLIENT = HttpClients.create(BASE_URI);
+    }
+
+    private static RequestSpecification baseSpec(String basePath) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(CONFIG)
+                .setBaseUri(BASE_URI)
+                .setBasePath(basePath)
+                .setAccept(ContentType.JSON)
+                .setContentType(ContentType.JSON);
+        builder.addFilter(new LatencyFilter(LatencyReportExtension.registry()));
+        if (JOURNAL != null) {
+            builder.addFilter(new JournalFilter(JOURNAL));
+        }
+        if (TRAFFIC != null) {
+            builder.addFilter(TRAFFIC);
+        }
+        return builder.addFilter(new BufferedBodyFilter()).build();
+    }
+
+    /**
+     * Фильтр записи или воспроизведения трафика по {@code -Dapi.traffic}; {@code null}, если захват выключен.
+     */
+    private static TrafficFilter trafficFilter(Config config) {
+        Path file = config.trafficFile();
+        if (config.recordTraffic()) {
+            TrafficLog.Writer writer = TrafficLog.create(file);
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "traffic-log-shutdown"));
+            return TrafficFilter.recording(writer);
+        }
+        if (config.replayTraffic()) {
+            return TrafficFilter.replaying(TrafficLog.open(file));
+        }
+        return null;
+    }
+
+    /**
+     * Журнал обменов по {@code -Dapi.journal=on}; {@code null}, если журнал выключен.
+     * Закрывается по окончании прогона тестов, см. {@link JournalExtension}; если тесты прервались —
+     * при завершении JVM.
+     */
+    private static Journal journal() {
+        Journal journal = Journal.open();
+        if (journal != null) {
+            JournalExtension.closeAfterRun(journal);
+            Runtime.getRuntime().addShutdownHook(new Thread(journal::close, "journal-shutdown"));
+        }
+        return journal;
+    }
+
+    /**
+     * Одна заглушка на JVM: её делят все тестовые классы, останавливается при завершении JVM.
+     */
+    private static String startStub() {
+        ItemServiceStub stub = ItemServiceStub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "item-stub-shutdown"));
+        return stub.baseUrl();
+    }
+}
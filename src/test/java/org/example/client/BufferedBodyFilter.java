@@ -0,0 +1,25 @@
+package org.example.client;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Дочитывает тело ответа сразу после получения.
+ * <p>
+ * RestAssured читает тело лениво, и пока оно не прочитано до конца, соединение остаётся
+ * занятым. С общим пулом это означает его исчерпание после {@link ApiClient#POOL_SIZE}
+ * запросов, тело которых тест не проверял. Прочитанное тело кешируется в ответе.
+ */
+class BufferedBodyFilter implements Filter {
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+}
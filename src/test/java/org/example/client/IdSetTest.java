@@ -0,0 +1,37 @@
+package org.example.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdSetTest {
+
+    @Test
+    @DisplayName("Повторы находятся и после роста таблицы, нулевой UUID и не-UUID учитываются отдельно")
+    public void add_ShouldDetectDuplicatesAcrossGrowth() {
+        IdSet ids = new IdSet();
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UUID.randomUUID().toString());
+        }
+        for (String id : uuids) {
+            assertThat(ids.add(id)).isTrue();
+        }
+        for (String id : uuids) {
+            assertThat(ids.add(id)).isFalse();
+        }
+
+        String nil = new UUID(0, 0).toString();
+        assertThat(ids.add(nil)).isTrue();
+        assertThat(ids.add(nil)).isFalse();
+        assertThat(ids.add(uuids.get(0).toUpperCase())).isTrue();
+        assertThat(ids.add("nonexistent_id")).isTrue();
+        assertThat(ids.add("nonexistent_id")).isFalse();
+        assertThat(ids.size()).isEqualTo(10_003);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.client;
+
+import org.example.model.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SellerItemsTest {
+
+    @Test
+    @DisplayName("Агрегаты и повторы идентификаторов собираются за один проход по большому ответу")
+    public void items_ShouldCollectSummaryInSinglePass() {
+        int count = 100_000;
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            // Каждый тысячный элемент повторяет идентификатор предыдущего
+            String id = i % 1000 == 999 ? ids.get(i - 1) : ids.get(i);
+            body.append(i == 0 ? "" : ",").append(item(id, 7, 10 + i, i % 5));
+        }
+        body.append(",").append(item("not-a-uuid", 7, 5, 0)).append(",").append(item("not-a-uuid", 7, 5, 0));
+        body.append("]");
+
+        try (SellerItems items = SellerItems.of(200, stream(body.toString()))) {
+            assertThat(items.items().filter(item -> item.sellerId() == 7).count()).isEqualTo(count + 2);
+            ItemSummary summary = items.summary();
+            assertThat(items.complete()).isTrue();
+            assertThat(summary.count()).isEqualTo(count + 2);
+            assertThat(summary.viewCountSum()).isEqualTo(count / 5 * (0 + 1 + 2 + 3 + 4));
+            assertThat(summary.minPrice()).hasValue(5);
+            assertThat(summary.maxPrice()).hasValue(10 + count - 1);
+            assertThat(summary.duplicates()).isEqualTo(count / 1000 + 1);
+            assertThat(summary.duplicateIds()).hasSize(ItemSummary.DUPLICATE_SAMPLES).startsWith(ids.get(998));
+        }
+    }
+
+    @Test
+    @DisplayName("Элементы отдаются до того, как прочитан остаток ответа")
+    public void items_ShouldYieldElementsBeforeRestOfBodyArrives() {
+        InputStream head = stream("[" + item(UUID.randomUUID().toString(), 1, 100, 1) + ",");
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        List<Item> received = new ArrayList<>();
+        try (SellerItems items = SellerItems.of(200, new SequenceInputStream(head, broken))) {
+            assertThatThrownBy(() -> items.items().forEach(received::add))
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasRootCauseMessage("connection reset");
+            assertThat(received).extracting(Item::price).containsExactly(100L);
+            assertThat(items.summary().count()).isEqualTo(1);
+            assertThat(items.complete()).isFalse();
+        }
+    }
+
+    private static String item(String id, long sellerId, long price, long viewCount) {
+        return "{\"createdAt\":\"2024-01-01 00:00:00.0 +0300 +0300\",\"id\":\"" + id + "\",\"name\":\"n\","
+                + "\"price\":" + price + ",\"sellerId\":" + sellerId
+                + ",\"statistics\":{\"contacts\":0,\"likes\":0,\"viewCount\":" + viewCount + "}}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.config;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * Число потоков параллельного запуска JUnit из {@link Config#parallelism()}: {@code -Dapi.parallelism},
+ * {@code API_PARALLELISM} или профиль. Подключается в {@code junit-platform.properties}.
+ * Пул устроен так же, как у стратегии {@code fixed}.
+ */
+public class ConfigParallelism implements ParallelExecutionConfigurationStrategy {
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final int EXTRA_THREADS = 256;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        int parallelism = Config.get().parallelism();
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMinimumRunnable() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMaxPoolSize() {
+                return parallelism + EXTRA_THREADS;
+            }
+
+            @Override
+            public int getCorePoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getKeepAliveSeconds() {
+                return KEEP_ALIVE_SECONDS;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigTest {
+
+    @Test
+    @DisplayName("Системное свойство перекрывает окружение, окружение — файл, файл — профиль")
+    public void load_ShouldApplySourcesInPriorityOrder(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("staging.properties");
+        Files.writeString(file, "api.profile=load\napi.base-url=http://staging:8080/\napi.rps=250\n",
+                StandardCharsets.UTF_8);
+        Properties system = new Properties();
+        system.setProperty("api.config", file.toString());
+        system.setProperty("api.rps", "500");
+
+        Config config = Config.load(Map.of("API_RPS", "300", "API_WARMUP", "1s"), system);
+
+        assertThat(config.baseUrl()).isEqualTo("http://staging:8080");
+        assertThat(config.rps()).isEqualTo(500);
+        assertThat(config.source(Config.RPS)).isEqualTo("-Dapi.rps");
+        assertThat(config.warmup()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(config.duration()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(config.source(Config.DURATION)).isEqualTo("profile load");
+        assertThat(config.useStub()).isFalse();
+        assertThat(config.cacheTtl()).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Все некорректные значения перечисляются в одной ошибке")
+    public void load_ShouldReportAllInvalidValues() {
+        Properties system = new Properties();
+        system.setProperty("api.base-url", "qa-internship.avito.com");
+        system.setProperty("http.pool.size", "0");
+
+        Map<String, String> env = Map.of("API_TARGET", "staging", "API_DURATION", "soon", "API_RPS", "-1");
+
+        assertThatThrownBy(() -> Config.load(env, system))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("api.target=staging (env API_TARGET): expected one of stub|remote")
+                .hasMessageContaining("api.base-url=qa-internship.avito.com (-Dapi.base-url)")
+                .hasMessageContaining("http.pool.size=0 (-Dhttp.pool.size): must be positive")
+                .hasMessageContaining("api.duration=soon (env API_DURATION)")
+                .hasMessageContaining("api.rps=-1 (env API_RPS): must be positive");
+    }
+}
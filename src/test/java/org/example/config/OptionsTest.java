@@ -0,0 +1,39 @@
+package org.example.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptionsTest {
+
+    @Test
+    @DisplayName("Аргументы передаются обработчику по порядку; значение может содержать '='")
+    public void parse_ShouldPassNameAndValueInOrder() {
+        Map<String, String> seen = new LinkedHashMap<>();
+        Options.parse(new String[]{"--rps=1000", "--base-url=http://host/?a=b", "--report="}, (name, value) -> {
+            seen.put(name, value);
+            return true;
+        });
+
+        assertThat(seen).containsExactly(Map.entry("rps", "1000"), Map.entry("base-url", "http://host/?a=b"),
+                Map.entry("report", ""));
+    }
+
+    @Test
+    @DisplayName("Аргумент не вида --name=value и неизвестный параметр отклоняются")
+    public void parse_ShouldRejectMalformedAndUnknownOptions() {
+        assertThatThrownBy(() -> Options.parse(new String[]{"--rps"}, (name, value) -> true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected --name=value, got: --rps");
+        assertThatThrownBy(() -> Options.parse(new String[]{"rps=1"}, (name, value) -> true))
+                .hasMessage("Expected --name=value, got: rps=1");
+        assertThatThrownBy(() -> Options.parse(new String[]{"--rsp=1"}, (name, value) -> false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown option: --rsp");
+    }
+}
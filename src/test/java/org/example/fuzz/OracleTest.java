@@ -0,0 +1,85 @@
+package org.example.fuzz;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OracleTest {
+    private static final byte[] SAVED =
+            bytes("{\"status\":\"Сохранили объявление - 0cd4183f-a699-4486-83f8-b513dfde477a\"}");
+    private static final byte[] NO_DETAILS = bytes("{\"result\":{\"message\":\"\",\"messages\":{}},"
+            + "\"status\":\"не передан объект - объявление\"}");
+
+    @Test
+    @DisplayName("Нарушения правил тела называют поле и правило")
+    public void violations_ShouldNameFieldAndRule() throws IOException {
+        assertThat(violations("{\"sellerID\": 123456, \"name\": \"Test name\", \"price\": 1}")).isEmpty();
+        assertThat(violations("{\"sellerID\": 0, \"name\": \"Test name\", \"price\": 1}"))
+                .containsExactly("sellerID.non-positive");
+        assertThat(violations("{\"sellerID\": -5, \"name\": \"Test name\", \"price\": 1}"))
+                .containsExactly("sellerID.negative");
+        assertThat(violations("{\"sellerID\": 1, \"name\": \" \", \"price\": 1, \"Price\": 2}"))
+                .containsExactly("name.blank", "price.case-variant");
+        assertThat(violations("{\"sellerID\": \"1\", \"price\": 99999999999999999999}"))
+                .containsExactly("name.missing", "price.range", "sellerID.type");
+        assertThat(violations("{\"sellerID\": 1, \"name\": \"x\", \"price\": 1, \"statistics\": {\"likes\": 1.5}}"))
+                .containsExactly("statistics.likes.type");
+        assertThat(Oracle.violations(Payload.raw(""))).containsExactly("body.empty");
+        assertThat(Oracle.violations(Payload.raw("{\"sellerID\": "))).containsExactly("body.malformed");
+        assertThat(Oracle.violations(Payload.raw("[1]"))).containsExactly("body.not-object");
+    }
+
+    @Test
+    @DisplayName("Каждый вид находки по паре «тело — ответ сервиса»")
+    public void findings_ShouldReportEachKind() throws IOException {
+        SortedSet<String> valid = violations("{\"sellerID\": 123456, \"name\": \"Test name\", \"price\": 1}");
+        SortedSet<String> blankName = violations("{\"sellerID\": 1, \"name\": \" \", \"price\": 1}");
+
+        assertThat(Oracle.findings(valid, 200, SAVED)).isEmpty();
+        assertThat(findings(valid, 0, new byte[0])).containsExactly("no-response 0 valid");
+        assertThat(findings(Oracle.violations(Payload.raw("")), 500, bytes("{\"message\":\"internal error\"}")))
+                .containsExactly("server-error 500 body.empty");
+        assertThat(findings(valid, 200, bytes("{\"status\":\"Сохранили объявление - 42\"}")))
+                .containsExactly("malformed-response 200 valid");
+        assertThat(findings(blankName, 400, bytes("<html>Bad Request</html>")))
+                .containsExactly("malformed-response 400 name.blank");
+        assertThat(findings(blankName, 200, SAVED)).containsExactly("accepted-invalid 200 name.blank");
+        assertThat(findings(valid, 400, NO_DETAILS)).containsExactly("rejected-valid 400 valid");
+        assertThat(findings(blankName, 400, NO_DETAILS)).containsExactly("error-without-details 400 name.blank");
+        assertThat(findings(valid, 302, new byte[0])).containsExactly("unexpected-status 302 valid");
+    }
+
+    @Test
+    @DisplayName("Ошибка без подробностей засчитывается только телу с одним нарушением")
+    public void findings_ShouldRequireDetailsOnlyForSingleViolation() throws IOException {
+        SortedSet<String> nonPositive = violations("{\"sellerID\": 0, \"name\": \"Test name\", \"price\": 1}");
+        SortedSet<String> several = violations("{\"sellerID\": 1, \"name\": 12, \"price\": -10}");
+        assertThat(several).containsExactly("name.type", "price.negative");
+
+        assertThat(Oracle.findings(several, 400, NO_DETAILS)).isEmpty();
+        assertThat(findings(nonPositive, 400, NO_DETAILS))
+                .containsExactly("error-without-details 400 sellerID.non-positive");
+        assertThat(findings(nonPositive, 400, bytes("{\"result\":{\"message\":\"\",\"messages\":null},"
+                + "\"status\":\"400\"}"))).containsExactly("error-without-details 400 sellerID.non-positive");
+        assertThat(Oracle.findings(nonPositive, 400, bytes("{\"result\":{\"message\":\"\","
+                + "\"messages\":{\"sellerID\":\"must be positive\"}},\"status\":\"400\"}"))).isEmpty();
+    }
+
+    private static SortedSet<String> violations(String json) throws IOException {
+        return Oracle.violations(Payload.of(Payload.MAPPER.readTree(json)));
+    }
+
+    private static List<String> findings(SortedSet<String> violations, int status, byte[] body) {
+        return Oracle.findings(violations, status, body).stream().map(Oracle.Signature::toString).toList();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShrinkerTest {
+
+    @Test
+    @DisplayName("Тело сжимается до корректного, в котором осталось только виновное поле")
+    public void shrink_ShouldKeepOnlyOffendingField() throws IOException {
+        Payload payload = Payload.of(tree("{\"sellerID\": 9223372036854775807, \"name\": \"\\u202Eevil\","
+                + " \"price\": -2147483648, \"statistics\": {\"contacts\": 5, \"likes\": true}, \"extra\": 1}"));
+
+        Shrinker.Result result = Shrinker.shrink(payload,
+                candidate -> Oracle.violations(candidate).contains("price.negative"), 200);
+
+        assertThat(result.payload().text()).isEqualTo("{\"sellerID\":123456,\"name\":\"Test name\",\"price\":-1}");
+        assertThat(result.attempts()).isLessThan(200);
+    }
+
+    private static JsonNode tree(String json) throws IOException {
+        return Payload.MAPPER.readTree(json);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.journal;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Журнал с телами только для упавших тестов, вместо вывода {@code prettyPrint()} каждого ответа.
+ * <p>
+ * Обмены теста придерживаются до его окончания. Если тест упал, все они уходят в журнал с телами и причиной
+ * падения в {@code failure}; если прошёл — с телами только неуспешные обмены и выборка
+ * {@code api.journal.body-sample}. Запросы вне теста (подготовка данных класса) пишутся сразу.
+ * <p>
+ * Обмены привязаны к потоку теста. Если проверка выполняется в другом потоке, как динамические тесты
+ * {@code ApiCasesTest}, её обмены собирает {@link Capture}, а итог проверки передаётся в {@link Capture#flush}.
+ */
+public class JournalExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(JournalExtension.class);
+    private static final ThreadLocal<Pending> CURRENT = new ThreadLocal<>();
+    private static final Set<Journal> OPEN = ConcurrentHashMap.newKeySet();
+    private static final Logger log = LoggerFactory.getLogger(JournalExtension.class);
+
+    /**
+     * Закрывает журнал по окончании всего прогона и пишет в лог его итог.
+     */
+    public static void closeAfterRun(Journal journal) {
+        OPEN.add(journal);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // Хранилище корневого контекста закрывается один раз — после всех тестовых классов
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Closer.class, key -> new Closer(), Closer.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        CURRENT.set(new Pending());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Pending pending = CURRENT.get();
+        CURRENT.remove();
+        if (pending != null) {
+            flush(pending, context.getExecutionException()
+                    .map(e -> context.getDisplayName() + ": " + e)
+                    .orElse(null));
+        }
+    }
+
+    private static void flush(Pending pending, String failure) {
+        if (pending.journal == null) {
+            return;
+        }
+        for (JournalEntry entry : pending.entries) {
+            if (failure != null) {
+                pending.journal.offer(entry.withFailure(entry.failure() != null ? entry.failure() : failure));
+            } else {
+                offer(pending.journal, entry);
+            }
+        }
+    }
+
+    static void record(Journal journal, JournalEntry entry) {
+        Pending pending = CURRENT.get();
+        if (pending == null) {
+            offer(journal, entry);
+            return;
+        }
+        pending.journal = journal;
+        pending.entries.add(entry);
+    }
+
+    private static void offer(Journal journal, JournalEntry entry) {
+        journal.offer(journal.captureBodies(entry.failed()) ? entry : entry.withoutBodies());
+    }
+
+    /**
+     * Обмены одной проверки, выполняемой в другом потоке.
+     */
+    public static final class Capture {
+        private final Pending pending = new Pending();
+
+        /**
+         * Выполняет проверку в текущем потоке, придерживая её обмены.
+         */
+        public void run(Runnable check) {
+            Pending previous = CURRENT.get();
+            CURRENT.set(pending);
+            try {
+                check.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        }
+
+        /**
+         * Передаёт обмены в журнал по итогу проверки; вызывается после того, как {@link #run} завершился.
+         *
+         * @param failure причина падения или {@code null}, если проверка прошла
+         */
+        public void flush(String displayName, Throwable failure) {
+            JournalExtension.flush(pending, failure == null ? null : displayName + ": " + failure);
+        }
+    }
+
+    private static final class Closer implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            for (Journal journal : OPEN) {
+                journal.close();
+                log.info("{}", journal);
+            }
+            OPEN.clear();
+        }
+    }
+
+    private static final class Pending {
+        final List<JournalEntry> entries = new ArrayList<>();
+        Journal journal;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.journal;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.example.metrics.LatencyRegistry;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Фильтр RestAssured, который передаёт каждый обмен в {@link Journal} через {@link JournalExtension}.
+ * Тела уже прочитаны в память, поэтому запись обходится без копирования и ввода-вывода в потоке теста.
+ */
+public class JournalFilter implements Filter {
+    private final Journal journal;
+
+    public JournalFilter(Journal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String path = URI.create(requestSpec.getURI()).getRawPath();
+        byte[] requestBody = body(requestSpec.getBody());
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            JournalExtension.record(journal, new JournalEntry(System.currentTimeMillis(), requestSpec.getMethod(),
+                    path, response.getStatusCode(), System.nanoTime() - start, requestBody,
+                    response.asByteArray(), null));
+            return response;
+        } catch (RuntimeException e) {
+            JournalExtension.record(journal, new JournalEntry(System.currentTimeMillis(), requestSpec.getMethod(),
+                    path, LatencyRegistry.NO_RESPONSE, System.nanoTime() - start, requestBody, null, e.toString()));
+            throw e;
+        }
+    }
+
+    private static byte[] body(Object body) {
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
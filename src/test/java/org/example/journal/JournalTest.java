@@ -0,0 +1,153 @@
+package org.example.journal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JournalTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Записи из нескольких потоков попадают в сжатые файлы с ротацией, тела — только у неуспешных")
+    public void journal_ShouldWriteEntriesFromManyThreadsToRotatingGzipFiles(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("journal.jsonl.gz");
+        int threads = 4;
+        int perThread = 1_000;
+        byte[] body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] large = "x".repeat(JournalWriter.MAX_BODY_BYTES + 10).getBytes(StandardCharsets.UTF_8);
+
+        Journal journal = Journal.open(file, 1 << 16, 1 << 10, 0);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread writer = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < perThread; i++) {
+                    boolean failed = i % 250 == 0;
+                    String failure = failed ? "unexpected status 500" : null;
+                    int status = failed ? 500 : 200;
+                    boolean bodies = journal.captureBodies(failed);
+                    // Случайные идентификаторы плохо сжимаются, и ротация наступает уже на нескольких тысячах записей
+                    String path = "/api/1/item/" + new UUID(random.nextLong(), random.nextLong());
+                    journal.offer(new JournalEntry(1_700_000_000_000L, "GET", path,
+                            status, 1_234_567, null, bodies ? (i == 0 ? large : body) : null, failure));
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        journal.close();
+
+        assertThat(journal.dropped()).isZero();
+        assertThat(journal.written()).isEqualTo(threads * perThread);
+        List<Path> parts;
+        try (Stream<Path> files = Files.list(dir)) {
+            parts = files.sorted().toList();
+        }
+        assertThat(parts).hasSizeGreaterThan(1).contains(file, dir.resolve("journal.1.jsonl.gz"));
+
+        List<JsonNode> entries = new ArrayList<>();
+        for (Path part : parts) {
+            entries.addAll(read(part));
+        }
+        assertThat(entries).hasSize(threads * perThread);
+        assertThat(entries.get(0).get("time").asText()).isEqualTo("2023-11-14T22:13:20Z");
+        assertThat(entries.get(0).get("latencyMs").asDouble()).isEqualTo(1.235);
+        List<JsonNode> failed = entries.stream().filter(entry -> entry.has("failure")).toList();
+        assertThat(failed).hasSize(threads * perThread / 250)
+                .allSatisfy(entry -> assertThat(entry.get("status").asInt()).isEqualTo(500))
+                .allSatisfy(entry -> assertThat(entry.has("response")).isTrue());
+        assertThat(entries).filteredOn(entry -> !entry.has("failure"))
+                .noneMatch(entry -> entry.has("response"));
+        assertThat(failed).filteredOn(entry -> entry.has("responseBytes")).hasSize(threads)
+                .allSatisfy(entry -> {
+                    assertThat(entry.get("responseBytes").asInt()).isEqualTo(large.length);
+                    assertThat(entry.get("response").asText()).hasSize(JournalWriter.MAX_BODY_BYTES);
+                });
+
+        assertThat(journal.offer(new JournalEntry(0, "GET", "/", 200, 0, null, null, null))).isFalse();
+        assertThat(journal.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Запись, переданная во время закрытия, либо попадает в файл, либо учитывается как отброшенная")
+    public void close_ShouldAccountForEntriesOfferedConcurrently(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("journal.jsonl.gz");
+        Journal journal = Journal.open(file, 1 << 16, Long.MAX_VALUE, 0);
+        int threads = 4;
+        LongAdder offered = new LongAdder();
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread writer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 20_000; i++) {
+                    journal.offer(new JournalEntry(0, "GET", "/api/1/item/" + i, 200, 0, null, null, null));
+                    offered.increment();
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        started.await();
+        journal.close();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertThat(journal.written() + journal.dropped()).isEqualTo(offered.sum());
+        assertThat(read(file)).hasSize((int) journal.written());
+    }
+
+    @Test
+    @DisplayName("Заполненный кольцевой буфер отказывает сразу и сохраняет порядок записей")
+    public void ringBuffer_ShouldRejectWhenFullAndKeepOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(5);
+        assertThat(buffer.capacity()).isEqualTo(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(8)).isFalse();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 8; i++) {
+                assertThat(buffer.poll()).isEqualTo(round * 8 + i);
+                assertThat(buffer.offer(round * 8 + i + 8)).isTrue();
+            }
+        }
+        assertThat(buffer.offer(-1)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(24);
+    }
+
+    private static List<JsonNode> read(Path part) throws IOException {
+        List<JsonNode> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(part)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                entries.add(MAPPER.readTree(line));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.load;
+
+import org.example.metrics.LatencyRegistry;
+import org.example.stub.ItemServiceStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadClusterTest {
+
+    @Test
+    @DisplayName("Отчёт координатора содержит все запросы фазы измерения всех агентов, и только их")
+    public void run_ShouldMergeIntervalHistogramsOfAllAgents() throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        ClusterOptions options = ClusterOptions.parse(new String[]{"--agents=3", "--port=" + port,
+                "--interval=200ms", "--rps=150", "--duration=1s", "--warmup=500ms"});
+        ExecutorService agents = Executors.newFixedThreadPool(3);
+        try (ItemServiceStub stub = ItemServiceStub.start()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                LoadAgent agent = new LoadAgent("127.0.0.1", port, "agent-" + i, Duration.ofSeconds(10));
+                running.add(agents.submit(() -> {
+                    agent.run();
+                    return null;
+                }));
+            }
+            LoadRunner.Report report = new LoadCoordinator(options, stub.baseUrl()).run();
+            for (Future<?> agent : running) {
+                agent.get();
+            }
+
+            long requests = report.stats().values().stream().mapToLong(EndpointStats::requests).sum();
+            long recorded = report.latencies().stream()
+                    .mapToLong(snapshot -> snapshot.histogram().getTotalCount()).sum();
+            // 50 запросов в секунду на агента: прогрев и создание объявлений перед прогоном не учитываются
+            assertThat(requests).isEqualTo(150);
+            assertThat(recorded).isEqualTo(requests);
+            assertThat(report.latencies()).extracting(LatencyRegistry.Snapshot::status).containsOnly(200);
+        } finally {
+            agents.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Интервальная гистограмма передаётся без потери точности")
+    public void interval_ShouldSurviveEncodingExactly() throws IOException {
+        LatencyRegistry registry = new LatencyRegistry();
+        for (long micros = 1; micros < 5_000_000; micros = micros * 3 / 2 + 1) {
+            registry.record("/api/1/item/{id}", 200, micros * 1000);
+        }
+        registry.record("/api/1/item/{id}", LatencyRegistry.NO_RESPONSE, 30_000_000_000L);
+        LoadRunner.Interval sent = new LoadRunner.Interval(true, registry.intervalSnapshot(), List.of());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ClusterProtocol.writeInterval(new DataOutputStream(bytes), sent);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(in.readByte()).isEqualTo(ClusterProtocol.INTERVAL);
+        LoadRunner.Interval received = ClusterProtocol.readInterval(in);
+
+        assertThat(received.measuring()).isTrue();
+        assertThat(received.latencies()).hasSize(2);
+        for (int i = 0; i < 2; i++) {
+            assertThat(received.latencies().get(i).status()).isEqualTo(sent.latencies().get(i).status());
+            assertThat(received.latencies().get(i).histogram()).isEqualTo(sent.latencies().get(i).histogram());
+        }
+    }
+}
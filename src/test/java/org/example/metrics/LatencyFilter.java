@@ -0,0 +1,35 @@
+package org.example.metrics;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Фильтр RestAssured, который записывает задержку каждого запроса в {@link LatencyRegistry}.
+ * Ключ — шаблон пути вместе с basePath спецификации, например {@code /api/1/item/{id}}.
+ */
+public class LatencyFilter implements Filter {
+    private final LatencyRegistry registry;
+
+    public LatencyFilter(LatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String template = requestSpec.getBasePath() + requestSpec.getUserDefinedPath();
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            registry.record(template, response.getStatusCode(), System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            registry.record(template, LatencyRegistry.NO_RESPONSE, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class LatencyRegistryTest {
+
+    @Test
+    @DisplayName("Задержки раскладываются по шаблону и коду ответа")
+    public void record_ShouldKeySeriesByTemplateAndStatus() {
+        LatencyRegistry registry = new LatencyRegistry();
+        registry.record("/api/1/item/{id}", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        registry.record("/api/1/item/{id}", 200, TimeUnit.MILLISECONDS.toNanos(7));
+        registry.record("/api/1/item/{id}", 404, TimeUnit.MILLISECONDS.toNanos(3));
+        registry.record("/api/1/item", LatencyRegistry.NO_RESPONSE, TimeUnit.SECONDS.toNanos(30));
+
+        List<LatencyRegistry.Snapshot> snapshots = registry.snapshot();
+
+        assertThat(snapshots).extracting(LatencyRegistry.Snapshot::template, LatencyRegistry.Snapshot::status)
+                .containsExactly(
+                        tuple("/api/1/item", 0),
+                        tuple("/api/1/item/{id}", 200),
+                        tuple("/api/1/item/{id}", 404));
+        assertThat(snapshots.get(1).histogram().getTotalCount()).isEqualTo(2);
+        assertThat(snapshots.get(1).histogram().getMaxValue()).isBetween(6_990L, 7_010L);
+        assertThat(registry.merged("/api/1/item/{id}").getTotalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Интервальные снимки не сбрасывают накопленные данные")
+    public void intervalSnapshot_ShouldNotResetCumulativeData() {
+        LatencyRegistry registry = new LatencyRegistry();
+        registry.record("/api/1/item", 200, 1_000_000);
+
+        assertThat(registry.intervalSnapshot().get(0).histogram().getTotalCount()).isEqualTo(1);
+        registry.record("/api/1/item", 200, 1_000_000);
+
+        assertThat(registry.intervalSnapshot().get(0).histogram().getTotalCount()).isEqualTo(1);
+        assertThat(registry.snapshot().get(0).histogram().getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Реестр без накопления отдаёт только интервальные гистограммы")
+    public void intervalOnly_ShouldNotKeepCumulativeData() {
+        LatencyRegistry registry = LatencyRegistry.intervalOnly();
+        registry.record("/api/1/item", 200, 1_000_000);
+
+        assertThat(registry.intervalSnapshot().get(0).histogram().getTotalCount()).isEqualTo(1);
+        assertThat(registry.intervalSnapshot().get(0).histogram().getTotalCount()).isZero();
+        assertThatThrownBy(registry::snapshot).isInstanceOf(IllegalStateException.class);
+    }
+}
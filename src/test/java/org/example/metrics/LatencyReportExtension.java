@@ -0,0 +1,49 @@
+package org.example.metrics;
+
+import org.example.config.Config;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * По окончании всего прогона выводит перцентили задержек, собранные {@link LatencyFilter},
+ * и пишет JSON-отчёт ({@code -Dlatency.report}, по умолчанию {@code target/latency-report.json}).
+ */
+public class LatencyReportExtension implements BeforeAllCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(LatencyReportExtension.class);
+    private static final LatencyRegistry REGISTRY = new LatencyRegistry();
+    private static final Logger log = LoggerFactory.getLogger(LatencyReportExtension.class);
+
+    public static LatencyRegistry registry() {
+        return REGISTRY;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // Хранилище корневого контекста закрывается один раз — после всех тестовых классов
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Report.class, key -> new Report(), Report.class);
+    }
+
+    private static class Report implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws IOException {
+            List<LatencyRegistry.Snapshot> snapshots = REGISTRY.snapshot();
+            ByteArrayOutputStream table = new ByteArrayOutputStream();
+            LatencyReport.print(snapshots, new PrintStream(table, true, StandardCharsets.UTF_8));
+            log.info("Request latency:\n{}", table.toString(StandardCharsets.UTF_8));
+
+            Path file = Config.get().latencyReport();
+            LatencyReport.writeJson(snapshots, file);
+            log.info("Latency report written to {}", file.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.api.Endpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsServerTest {
+
+    @Test
+    @DisplayName("/metrics отдаёт счётчики, перцентили за закрытое окно и датчики в формате Prometheus")
+    public void metrics_ShouldExposePrometheusText() throws Exception {
+        LiveMetrics metrics = new LiveMetrics(3600);
+        metrics.gauge("api_client_in_flight", "Requests in flight.", () -> 3);
+        for (int i = 1; i <= 100; i++) {
+            metrics.record(Endpoint.GET_ITEM.template(), 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        metrics.record(Endpoint.GET_ITEM.template(), LatencyRegistry.NO_RESPONSE, TimeUnit.SECONDS.toNanos(1));
+        metrics.rotate();
+        metrics.record(Endpoint.GET_ITEM.template(), 404, TimeUnit.MILLISECONDS.toNanos(1));
+
+        try (MetricsServer server = MetricsServer.start(metrics, "127.0.0.1", 0)) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                    type -> assertThat(type).startsWith("text/plain; version=0.0.4"));
+            List<String> lines = response.body().lines().toList();
+            String endpoint = "endpoint=\"/api/1/item/{id}\"";
+            assertThat(lines).contains(
+                    "# TYPE api_client_requests_total counter",
+                    "api_client_requests_total{" + endpoint + ",status=\"0\"} 1",
+                    "api_client_requests_total{" + endpoint + ",status=\"200\"} 100",
+                    "api_client_requests_total{" + endpoint + ",status=\"404\"} 1",
+                    "# TYPE api_client_request_duration_seconds summary",
+                    "api_client_request_duration_seconds_count{" + endpoint + "} 102",
+                    "api_client_in_flight 3");
+            // Запрос после закрытия окна в перцентили не попадает, а в сумму и счётчик — да
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith("api_client_request_duration_seconds{" + endpoint + ",quantile=\"0.5\"} 0.05"));
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith("api_client_request_duration_seconds_sum{" + endpoint + "} 6.05"));
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith("api_client_request_duration_max_seconds{" + endpoint + "} 1.00"));
+            assertThat(lines).anySatisfy(line -> assertThat(line).startsWith("jvm_gc_collections_total{gc=\""));
+        }
+    }
+
+    @Test
+    @DisplayName("Запрос записывается в JFR событием org.example.HttpRequest")
+    public void httpRequestEvent_ShouldBeRecordedByJfr(@TempDir Path dir) throws Exception {
+        assertThat(HttpRequestEvent.begin(Endpoint.CREATE_ITEM)).isNull();
+
+        Path file = dir.resolve("run.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpRequestEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            HttpRequestEvent event = HttpRequestEvent.begin(Endpoint.CREATE_ITEM);
+            assertThat(event).isNotNull();
+            event.finish(200, TimeUnit.MILLISECONDS.toNanos(12));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("org.example.HttpRequest"))
+                .toList();
+        assertThat(events).singleElement().satisfies(recorded -> {
+            assertThat(recorded.getString("method")).isEqualTo("POST");
+            assertThat(recorded.getString("endpoint")).isEqualTo(Endpoint.CREATE_ITEM.template());
+            assertThat(recorded.getInt("status")).isEqualTo(200);
+            assertThat(recorded.getDuration("latency")).isEqualTo(Duration.ofMillis(12));
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonTest {
+
+    @Test
+    @DisplayName("Конверт ошибки разбирается строго: лишнее или недостающее поле — ошибка")
+    public void readError_ShouldRejectExtraAndMissingFields() {
+        assertThat(Json.readError(bytes("{\"result\":{\"message\":\"item 1 not found\",\"messages\":null},"
+                + "\"status\":\"404\"}")))
+                .isEqualTo(new ErrorResponse(new ErrorResponse.Result("item 1 not found", null), "404"));
+        assertThat(Json.readError(bytes("{\"result\":{\"message\":\"\",\"messages\":{}},\"status\":\"400\"}")))
+                .isEqualTo(new ErrorResponse(new ErrorResponse.Result("", Map.of()), "400"));
+
+        assertThatThrownBy(() -> Json.readError(bytes("{\"result\":{\"message\":\"item 1 not found\"},"
+                + "\"status\":\"404\"}")))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> Json.readError(bytes("{\"result\":{\"message\":\"\",\"messages\":{},"
+                + "\"code\":400},\"status\":\"400\"}")))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> Json.readError(bytes("{\"result\":{\"message\":\"\",\"messages\":{}}}")))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
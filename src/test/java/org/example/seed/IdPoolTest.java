@@ -0,0 +1,49 @@
+package org.example.seed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdPoolTest {
+
+    @Test
+    @DisplayName("Записи из нескольких потоков читаются из пула потоково")
+    public void writer_ShouldPersistEntriesFromConcurrentProducers(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("pool.csv");
+        List<Thread> producers = new ArrayList<>();
+        try (IdPool.Writer writer = new IdPool.Writer(file)) {
+            for (int p = 0; p < 4; p++) {
+                long sellerId = 1_000 + p;
+                Thread producer = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 5_000; i++) {
+                            writer.add(new IdPool.Entry(UUID.randomUUID().toString(), sellerId));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+        }
+
+        try (Stream<IdPool.Entry> pool = IdPool.stream(file)) {
+            assertThat(pool.collect(Collectors.groupingBy(IdPool.Entry::sellerId, Collectors.counting())))
+                    .containsOnlyKeys(1_000L, 1_001L, 1_002L, 1_003L)
+                    .allSatisfy((sellerId, count) -> assertThat(count).isEqualTo(5_000L));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.traffic;
+
+import org.example.config.Config;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Источник случайных тестовых данных.
+ * <p>
+ * При записи и воспроизведении трафика ({@code -Dapi.traffic=record|replay}) генератор каждого теста
+ * инициализируется его идентификатором, поэтому тест шлёт те же sellerID и UUID, что и при записи,
+ * и запросы находятся в журнале. В обычном прогоне данные случайны, как раньше.
+ */
+public class TestData implements BeforeEachCallback, AfterEachCallback {
+    private static final boolean SEEDED = Config.get().recordTraffic() || Config.get().replayTraffic();
+    private static final ThreadLocal<Random> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (SEEDED) {
+            CURRENT.set(new Random(context.getUniqueId().hashCode()));
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CURRENT.remove();
+    }
+
+    public static RandomGenerator random() {
+        Random random = CURRENT.get();
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    /**
+     * UUID версии 4 из {@link #random()}.
+     */
+    public static UUID uuid() {
+        RandomGenerator random = random();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(most, least);
+    }
+}
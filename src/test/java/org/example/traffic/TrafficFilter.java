@@ -0,0 +1,79 @@
+package org.example.traffic;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Запись трафика тестов в {@link TrafficLog} или ответы из него без обращения к сервису.
+ * <p>
+ * В режиме воспроизведения цепочка фильтров прерывается: ответ собирается из журнала,
+ * и запрос не уходит в сеть. Запрос, которого нет в журнале, — ошибка теста: значит,
+ * тест шлёт не те данные, что при записи, и журнал нужно перезаписать.
+ */
+public class TrafficFilter implements Filter {
+    private final TrafficLog.Writer writer;
+    private final TrafficLog.Index index;
+    private final Map<String, AtomicInteger> occurrences = new ConcurrentHashMap<>();
+
+    private TrafficFilter(TrafficLog.Writer writer, TrafficLog.Index index) {
+        this.writer = writer;
+        this.index = index;
+    }
+
+    public static TrafficFilter recording(TrafficLog.Writer writer) {
+        return new TrafficFilter(writer, null);
+    }
+
+    public static TrafficFilter replaying(TrafficLog.Index index) {
+        return new TrafficFilter(null, index);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String key = key(requestSpec);
+        if (index != null) {
+            TrafficLog.Exchange exchange = index.find(key);
+            if (exchange == null) {
+                throw new AssertionError("No recorded response for " + key);
+            }
+            return new ResponseBuilder()
+                    .setStatusCode(exchange.status())
+                    .setStatusLine("HTTP/1.1 " + exchange.status())
+                    .setContentType(exchange.contentType())
+                    .setBody(exchange.body())
+                    .build();
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        writer.append(key, new TrafficLog.Exchange(response.getStatusCode(), response.getContentType(),
+                response.asByteArray()));
+        return response;
+    }
+
+    private String key(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        String path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + '?' + uri.getRawQuery();
+        byte[] body = body(requestSpec.getBody());
+        String request = TrafficLog.key(requestSpec.getMethod(), path, body, 0);
+        int occurrence = occurrences.computeIfAbsent(request, k -> new AtomicInteger()).getAndIncrement();
+        return occurrence == 0 ? request : TrafficLog.key(requestSpec.getMethod(), path, body, occurrence);
+    }
+
+    private static byte[] body(Object body) {
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] bytes ? bytes : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
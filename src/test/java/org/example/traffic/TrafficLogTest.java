@@ -0,0 +1,56 @@
+package org.example.traffic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrafficLogTest {
+
+    @Test
+    @DisplayName("Записанные ответы находятся по ключу после переоткрытия журнала")
+    public void open_ShouldIndexRecordedExchanges(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("traffic.log");
+        byte[] body = "{\"sellerID\":1}".getBytes(StandardCharsets.UTF_8);
+        String first = TrafficLog.key("POST", "/api/1/item", body, 0);
+        String second = TrafficLog.key("POST", "/api/1/item", body, 1);
+        try (TrafficLog.Writer writer = TrafficLog.create(file)) {
+            writer.append(first, new TrafficLog.Exchange(200, "application/json",
+                    "{\"status\":\"first\"}".getBytes(StandardCharsets.UTF_8)));
+            writer.append(second, new TrafficLog.Exchange(200, "application/json",
+                    "{\"status\":\"second\"}".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        TrafficLog.Index index = TrafficLog.open(file);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(new String(index.find(second).body(), StandardCharsets.UTF_8)).isEqualTo("{\"status\":\"second\"}");
+        assertThat(index.find(first).contentType()).isEqualTo("application/json");
+        assertThat(index.find(TrafficLog.key("GET", "/api/1/item", null, 0))).isNull();
+        assertThat(Files.size(file)).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Журнал растёт за пределы одного отображённого окна")
+    public void append_ShouldRemapWhenWindowIsFull(@TempDir Path dir) {
+        Path file = dir.resolve("traffic.log");
+        byte[] body = new byte[64 * 1024];
+        try (TrafficLog.Writer writer = TrafficLog.create(file)) {
+            for (int i = 0; i < 200; i++) {
+                body[0] = (byte) i;
+                writer.append(TrafficLog.key("GET", "/api/1/item/" + i, null, 0),
+                        new TrafficLog.Exchange(200, "application/json", body));
+            }
+        }
+
+        TrafficLog.Index index = TrafficLog.open(file);
+
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.find(TrafficLog.key("GET", "/api/1/item/199", null, 0)).body()[0]).isEqualTo((byte) 199);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.validation;
+
+import org.example.api.Endpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseValidatorTest {
+    private static final String ITEM = "{\"createdAt\":\"2025-02-12 11:28:35.164375 +0300 +0300\","
+            + "\"id\":\"0cd4183f-a699-4486-83f8-b513dfde477a\",\"name\":\"dsdsd\",\"price\":1,\"sellerId\":3452,"
+            + "\"statistics\":{\"contacts\":3,\"likes\":123,\"viewCount\":12}}";
+
+    private final ResponseValidator items = ResponseValidator.forEndpoint(Endpoint.GET_ITEM);
+
+    @Test
+    @DisplayName("Успешный ответ с объявлениями проходит проверку")
+    public void validate_ShouldAcceptValidItems() {
+        assertThat(items.validate(200, bytes("[" + (ITEM + ",").repeat(99) + ITEM + "]"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Ошибка в поле объявления описывается индексом, путём и значением")
+    public void validate_ShouldExplainInvalidItemField() {
+        assertThat(items.validate(200, bytes("[" + ITEM + "," + ITEM.replace("02-12", "02-30") + "]")))
+                .isEqualTo("GET /api/1/item/{id} 200: [1].createdAt: expected a timestamp like \""
+                        + CreatedAt.EXAMPLE + "\", got \"2025-02-30 11:28:35.164375 +0300 +0300\"");
+        assertThat(items.validate(200, bytes("[" + ITEM.replace("\"id\":\"0cd4183f", "\"id\":\"0cd4183") + "]")))
+                .contains("[0].id: expected a UUID");
+        assertThat(items.validate(200, bytes("[" + ITEM.replace("\"likes\":123,", "") + "]")))
+                .endsWith("[0]: missing statistics.likes");
+        assertThat(items.validate(200, bytes("[" + ITEM.replace("\"contacts\":3", "\"contacts\":-1") + "]")))
+                .endsWith("[0].statistics.contacts: expected a non-negative integer, got -1");
+    }
+
+    @Test
+    @DisplayName("Неожиданный код и чужой конверт ошибки описываются подробно")
+    public void validate_ShouldExplainUnexpectedStatusAndErrorEnvelope() {
+        assertThat(items.validate(500, bytes("oops"))).contains("unexpected status 500").endsWith("body: oops");
+
+        String notFound = "{\"result\":{\"message\":\"item 1 not found\",\"messages\":null},\"status\":\"404\"}";
+        assertThat(items.validate(404, bytes(notFound))).isNull();
+        assertThat(items.validate(400, bytes(notFound)))
+                .endsWith("status: expected \"400\", got \"404\"");
+        assertThat(ResponseValidator.error(Endpoint.GET_ITEM, 404, "item 2 not found").validate(404, bytes(notFound)))
+                .endsWith("result.message: expected \"item 2 not found\", got \"item 1 not found\"");
+    }
+
+    @Test
+    @DisplayName("Ответ на создание должен содержать идентификатор нового объявления")
+    public void validate_ShouldRequireCreatedItemId() {
+        ResponseValidator create = ResponseValidator.forEndpoint(Endpoint.CREATE_ITEM);
+        assertThat(create.validate(200,
+                bytes("{\"status\":\"Сохранили объявление - 0cd4183f-a699-4486-83f8-b513dfde477a\"}"))).isNull();
+        assertThat(create.validate(200, bytes("{\"status\":\"Сохранили объявление - \"}")))
+                .contains("status: expected \"Сохранили объявление - <uuid>\"");
+    }
+
+    @Test
+    @DisplayName("Отказ в создании — текст в status, пустые message и messages — проходит проверку")
+    public void validate_ShouldAcceptCreateRejection() {
+        ResponseValidator create = ResponseValidator.forEndpoint(Endpoint.CREATE_ITEM);
+        String rejected = "{\"result\":{\"message\":\"\",\"messages\":{}},"
+                + "\"status\":\"не передан объект - объявление\"}";
+        assertThat(create.validate(400, bytes(rejected))).isNull();
+        assertThat(create.validate(400, bytes(rejected.replace("\"не передан объект - объявление\"", "\"400\""))))
+                .endsWith("status: expected \"не передан объект - объявление\", got \"400\"");
+        assertThat(create.validate(400, bytes(rejected.replace("{}", "{\"name\":\"required\"}"))))
+                .endsWith("result.messages: expected {}, got a field name");
+        assertThat(create.validate(400, bytes(rejected.replace("{}", "null"))))
+                .endsWith("result.messages: expected {}, got null");
+    }
+
+    @Test
+    @DisplayName("Разбор createdAt совпадает с java.time и отвергает недопустимые даты")
+    public void createdAt_ShouldMatchJavaTime() {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSS xx xx");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong(0, 4_102_444_800L),
+                    random.nextInt(1_000_000) * 1000L);
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 60, 18 * 60 + 1) * 60);
+            String text = OffsetDateTime.ofInstant(instant, offset).format(format);
+            assertThat(CreatedAt.parse(text)).as(text).isEqualTo(instant.toEpochMilli());
+        }
+
+        assertThat(CreatedAt.isValid("2025-02-12 11:28:35.1 +0300 +0300")).isTrue();
+        assertThat(CreatedAt.isValid("2024-02-29 23:59:59.999999999 -0500 -0500")).isTrue();
+        assertThat(CreatedAt.isValid("2025-02-29 11:28:35.164375 +0300 +0300")).isFalse();
+        assertThat(CreatedAt.isValid("2025-02-12 24:00:00.164375 +0300 +0300")).isFalse();
+        assertThat(CreatedAt.isValid("2025-02-12 11:28:35 +0300 +0300")).isFalse();
+        assertThat(CreatedAt.isValid("2025-02-12 11:28:35.1234567890 +0300 +0300")).isFalse();
+        assertThat(CreatedAt.isValid("2025-02-12 11:28:35.164375 +0300 MSK")).isFalse();
+        assertThat(CreatedAt.isValid("2025-02-12T11:28:35.164375+03:00")).isFalse();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}